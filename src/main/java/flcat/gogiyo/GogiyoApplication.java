@@ -2,8 +2,10 @@ package flcat.gogiyo;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 
-@SpringBootApplication
+// DataSource는 호출 조율 켠 경우만 생성 (CoordinationDataSourceConfig).
+@SpringBootApplication(exclude = DataSourceAutoConfiguration.class)
 public class GogiyoApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,148 @@
+package flcat.gogiyo.analytics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일별 가격 적재 이력 파일 (TSV, append-only).
+ * - 재기동 시 이동 통계 복원용. 외부 API 재호출 없이 윈도우 재구성.
+ * - compact로 보존 기간 지난 줄 정리. 임시 파일에 다시 쓴 뒤 교체 -> 중간에 실패해도 기존 파일 유지.
+ * - 한 줄: itemCode, itemName, kindCode, kindName, rank, unit, 일자, 가격, 직전 조사일 가격(NaN 가능)
+ *   직전 조사일 가격 없는 이전 형식(8열)도 읽음.
+ */
+@Slf4j
+class PriceHistoryJournal {
+
+    private static final int COLUMN_COUNT = 9;
+    private static final int LEGACY_COLUMN_COUNT = 8;
+
+    private final Path path;
+
+    PriceHistoryJournal(Path path) {
+        this.path = path;
+    }
+
+    synchronized void append(List<PricePoint> points) {
+        if (points.isEmpty()) {
+            return;
+        }
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (PricePoint point : points) {
+                    writer.write(point.toLine());
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            // 이력 기록 실패가 조회 응답까지 막으면 안 됨. 로그만.
+            log.error("가격 이력 기록 실패. path: {}, 원인: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 이력 순서대로 재생. 형식 불일치 줄은 건너뜀.
+     * @return 재생한 줄 수
+     */
+    synchronized int replay(Consumer<PricePoint> consumer) {
+        if (!Files.isReadable(path)) {
+            log.info("가격 이력 파일 없음. 빈 상태로 시작. path: {}", path);
+            return 0;
+        }
+        int replayed = 0;
+        try (Stream<String> lines = Files.lines(path, StandardCharsets.UTF_8)) {
+            for (String line : (Iterable<String>) lines::iterator) {
+                PricePoint point = PricePoint.fromLine(line);
+                if (point != null) {
+                    consumer.accept(point);
+                    replayed++;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("가격 이력 복원 중 오류. {}줄까지 복원. path: {}, 원인: {}", replayed, path, e.getMessage());
+        }
+        return replayed;
+    }
+
+    /**
+     * keep 조건 맞는 줄만 남기고 다시 씀. 형식 불일치 줄도 제거. 제거할 줄 없으면 파일 그대로.
+     * @return 제거한 줄 수
+     */
+    synchronized int compact(Predicate<PricePoint> keep) {
+        if (!Files.isReadable(path)) {
+            return 0;
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        int removed = 0;
+        try {
+            try (Stream<String> lines = Files.lines(path, StandardCharsets.UTF_8);
+                 BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (String line : (Iterable<String>) lines::iterator) {
+                    PricePoint point = PricePoint.fromLine(line);
+                    if (point != null && keep.test(point)) {
+                        writer.write(point.toLine());
+                        writer.newLine();
+                    } else {
+                        removed++;
+                    }
+                }
+            }
+            if (removed == 0) {
+                Files.delete(temp);
+                return 0;
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return removed;
+        } catch (IOException | RuntimeException e) {
+            log.error("가격 이력 정리 실패. 기존 파일 유지. path: {}, 원인: {}", path, e.getMessage());
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // 다음 정리 때 덮어씀.
+            }
+            return 0;
+        }
+    }
+
+    record PricePoint(String itemCode, String itemName, String kindCode, String kindName,
+                      String rank, String unit, LocalDate day, double price, double previousPrice) {
+
+        String toLine() {
+            return String.join("\t", clean(itemCode), clean(itemName), clean(kindCode), clean(kindName),
+                clean(rank), clean(unit), day.toString(), Double.toString(price), Double.toString(previousPrice));
+        }
+
+        static PricePoint fromLine(String line) {
+            String[] columns = line.split("\t", -1);
+            if (columns.length != COLUMN_COUNT && columns.length != LEGACY_COLUMN_COUNT) {
+                return null;
+            }
+            try {
+                double previousPrice = columns.length == COLUMN_COUNT ? Double.parseDouble(columns[8]) : Double.NaN;
+                return new PricePoint(columns[0], columns[1], columns[2], columns[3], columns[4], columns[5],
+                    LocalDate.parse(columns[6]), Double.parseDouble(columns[7]), previousPrice);
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+
+        // 구분자 충돌 방지. null은 빈 문자열로.
+        private static String clean(String value) {
+            return value == null ? "" : value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+        }
+    }
+}
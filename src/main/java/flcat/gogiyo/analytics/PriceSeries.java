@@ -0,0 +1,108 @@
+package flcat.gogiyo.analytics;
+
+import flcat.gogiyo.dto.PriceWindowStats;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 품목/품종/등급 1개 계열의 일별 가격 이동 통계.
+ * - prices: 가격 이동평균용, returns: 일간 변동률(%) 표준편차(변동성)용. 윈도우는 일자 기준 (RollingWindow).
+ * - 일간 변동률은 직전 조사일 가격(dpr2) 대비. dpr2 없으면 바로 전날 적재값이 있을 때만 계산
+ *   -> 수신 공백(여러 날)에 걸친 변동을 하루 변동으로 보지 않음.
+ * - 같은 날짜 또는 과거 날짜 재수신은 무시 (재조회/재기동 시 중복 적재 방지).
+ */
+class PriceSeries {
+
+    private final String itemCode;
+    private final String kindCode;
+    private final String rank;
+    private final RollingWindow prices;
+    private final RollingWindow returns;
+
+    // 표시용 메타데이터. 최근 수신값으로 갱신.
+    private String itemName;
+    private String kindName;
+    private String unit;
+
+    private LocalDate lastDay;
+    private double lastPrice = Double.NaN;
+
+    PriceSeries(String itemCode, String kindCode, String rank, int... windows) {
+        this.itemCode = itemCode;
+        this.kindCode = kindCode;
+        this.rank = rank;
+        this.prices = new RollingWindow(windows);
+        this.returns = new RollingWindow(windows);
+    }
+
+    /**
+     * 일별 가격 추가. 적재했으면 true.
+     * @param previousPrice 직전 조사일 가격 (dpr2). 없으면 NaN.
+     */
+    synchronized boolean add(LocalDate day, double price, double previousPrice,
+        String itemName, String kindName, String unit) {
+        if (Double.isNaN(price) || (lastDay != null && !day.isAfter(lastDay))) {
+            return false;
+        }
+        long epochDay = day.toEpochDay();
+        double base = previousPrice;
+        if (Double.isNaN(base) && lastDay != null && lastDay.plusDays(1).equals(day)) {
+            base = lastPrice;
+        }
+        if (!Double.isNaN(base) && base > 0) {
+            returns.add(epochDay, (price / base - 1.0) * 100.0);
+        }
+        prices.add(epochDay, price);
+        lastDay = day;
+        lastPrice = price;
+        this.itemName = itemName;
+        this.kindName = kindName;
+        this.unit = unit;
+        return true;
+    }
+
+    // 마지막 적재 일자. 적재 전이면 null.
+    synchronized LocalDate lastDay() {
+        return lastDay;
+    }
+
+    synchronized List<PriceWindowStats> stats() {
+        List<PriceWindowStats> result = new ArrayList<>(prices.windowCount());
+        for (int i = 0; i < prices.windowCount(); i++) {
+            result.add(statsAt(i));
+        }
+        return result;
+    }
+
+    // 특정 윈도우(일수) 통계. 없는 윈도우면 null.
+    synchronized PriceWindowStats stats(int window) {
+        for (int i = 0; i < prices.windowCount(); i++) {
+            if (prices.window(i) == window) {
+                return statsAt(i);
+            }
+        }
+        return null;
+    }
+
+    private PriceWindowStats statsAt(int i) {
+        return PriceWindowStats.builder()
+            .itemCode(itemCode)
+            .itemName(itemName)
+            .kindCode(kindCode)
+            .kindName(kindName)
+            .rank(rank)
+            .unit(unit)
+            .window(prices.window(i))
+            .sampleSize(prices.size(i))
+            .movingAverage(nullIfNaN(prices.mean(i)))
+            .volatility(nullIfNaN(returns.stddev(i)))
+            .latestDay(lastDay)
+            .latestPrice(nullIfNaN(lastPrice))
+            .build();
+    }
+
+    private static Double nullIfNaN(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+}
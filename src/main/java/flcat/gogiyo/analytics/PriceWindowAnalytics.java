@@ -0,0 +1,162 @@
+package flcat.gogiyo.analytics;
+
+import flcat.gogiyo.analytics.PriceHistoryJournal.PricePoint;
+import flcat.gogiyo.dto.ItemPriceInfo;
+import flcat.gogiyo.dto.PriceWindowStats;
+import flcat.gogiyo.service.PriceSnapshotListener;
+import flcat.gogiyo.support.PriceValues;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 전국 도매 축산물 7/30/90일 이동평균 및 변동성.
+ * - 스냅샷 수신 시 계열(품목/품종/등급)별 링 버퍼에 당일 가격(dpr1) 1건씩 증분 적재. 윈도우는 일자 기준.
+ * - 조회는 미리 누적된 합/제곱합으로 O(1). 원본 이력 재계산 없음.
+ * - analytics.journal.path 설정 시 적재 이력을 파일로 남기고 기동 시 복원.
+ *   이력은 계열별 최근 90일(가장 큰 윈도우)만 보존. 기동 시와 새 일자 적재 시 정리.
+ */
+@Slf4j
+@Component
+public class PriceWindowAnalytics implements PriceSnapshotListener {
+
+    // 이동 통계 윈도우 (일). 가장 큰 값이 계열별 버퍼 크기.
+    static final int[] WINDOWS = {7, 30, 90};
+    private static final int RETENTION_DAYS = WINDOWS[WINDOWS.length - 1];
+    private static final Duration JOURNAL_SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final Map<String, PriceSeries> seriesByKey = new ConcurrentHashMap<>();
+    private final PriceHistoryJournal journal; // null이면 이력 기록 안 함
+    // 파일 기록은 요청 스레드(WebClient 이벤트 루프) 밖에서, 순서 보장 위해 단일 스레드로.
+    private final Scheduler journalScheduler;
+    private final AtomicReference<LocalDate> compactedThrough = new AtomicReference<>(); // 마지막 정리 시 최신 적재일
+
+    public PriceWindowAnalytics(@Value("${analytics.journal.path:}") String journalPath) {
+        if (StringUtils.hasText(journalPath)) {
+            this.journal = new PriceHistoryJournal(Path.of(journalPath));
+            this.journalScheduler = Schedulers.newSingle("price-journal");
+        } else {
+            this.journal = null;
+            this.journalScheduler = null;
+            log.info("analytics.journal.path 미설정. 이동 통계는 메모리에만 유지 (재기동 시 초기화).");
+        }
+    }
+
+    // 기동 시 이력 파일로 윈도우 복원.
+    @PostConstruct
+    void rebuild() {
+        if (journal == null) {
+            return;
+        }
+        int replayed = journal.replay(this::apply);
+        log.info("이동 통계 복원 완료. 이력 {}줄, 계열 {}개", replayed, seriesByKey.size());
+        compactJournal();
+    }
+
+    // 계열별 최근 RETENTION_DAYS일 밖의 이력 제거.
+    private void compactJournal() {
+        int removed = journal.compact(this::retained);
+        if (removed > 0) {
+            log.info("가격 이력 정리. {}줄 제거 (보존 {}일)", removed, RETENTION_DAYS);
+        }
+    }
+
+    private boolean retained(PricePoint point) {
+        PriceSeries series = seriesByKey.get(seriesKey(point.itemCode(), point.kindCode(), point.rank()));
+        LocalDate lastDay = series == null ? null : series.lastDay();
+        return lastDay == null || point.day().isAfter(lastDay.minusDays(RETENTION_DAYS));
+    }
+
+    // 대기 중인 이력 기록은 마저 처리하고 종료.
+    @PreDestroy
+    void shutdown() {
+        if (journalScheduler != null) {
+            journalScheduler.disposeGracefully()
+                .timeout(JOURNAL_SHUTDOWN_TIMEOUT)
+                .onErrorResume(e -> Mono.empty())
+                .block();
+        }
+    }
+
+    @Override
+    public void onSnapshot(LocalDate regDay, List<ItemPriceInfo> items) {
+        List<PricePoint> accepted = new ArrayList<>();
+        for (ItemPriceInfo item : items) {
+            double price = PriceValues.parsePrice(item.getDpr1());
+            if (Double.isNaN(price)) {
+                continue; // 당일 가격 없음("-")
+            }
+            // 최근일 조회 시 실제 가격 일자는 day1 라벨 기준이 더 정확.
+            LocalDate day = PriceValues.resolveDay(item.getDay1(), regDay);
+            PricePoint point = new PricePoint(item.getItemCode(), item.getItemName(), item.getKindCode(),
+                item.getKindName(), item.getRank(), item.getUnit(), day, price,
+                PriceValues.parsePrice(item.getDpr2()));
+            if (apply(point)) {
+                accepted.add(point);
+            }
+        }
+        log.debug("이동 통계 적재. 기준일: {}, 수신 {}건, 신규 적재 {}건", regDay, items.size(), accepted.size());
+        if (journal != null && !accepted.isEmpty()) {
+            journalScheduler.schedule(() -> journal.append(accepted));
+            // 일자 넘어가면 1회 정리. 기록과 같은 스레드라 순서 보장.
+            LocalDate newest = accepted.stream().map(PricePoint::day).max(LocalDate::compareTo).orElseThrow();
+            LocalDate previous = compactedThrough.getAndAccumulate(newest,
+                (current, candidate) -> current == null || candidate.isAfter(current) ? candidate : current);
+            if (previous == null || newest.isAfter(previous)) {
+                journalScheduler.schedule(this::compactJournal);
+            }
+        }
+    }
+
+    /**
+     * 계열별 윈도우 통계 조회. 계열 없으면 empty.
+     * @param window 특정 윈도우(일)만 조회 시 지정. null이면 전체 윈도우.
+     */
+    public Optional<List<PriceWindowStats>> getStats(String itemCode, String kindCode, String rank, Integer window) {
+        PriceSeries series = seriesByKey.get(seriesKey(itemCode, kindCode, rank));
+        if (series == null) {
+            return Optional.empty();
+        }
+        if (window == null) {
+            return Optional.of(series.stats());
+        }
+        PriceWindowStats stats = series.stats(window);
+        return stats == null ? Optional.empty() : Optional.of(List.of(stats));
+    }
+
+    public int seriesCount() {
+        return seriesByKey.size();
+    }
+
+    private boolean apply(PricePoint point) {
+        PriceSeries series = seriesByKey.computeIfAbsent(
+            seriesKey(point.itemCode(), point.kindCode(), point.rank()),
+            key -> new PriceSeries(point.itemCode(), point.kindCode(), point.rank(), WINDOWS));
+        return series.add(point.day(), point.price(), point.previousPrice(), point.itemName(), point.kindName(),
+            point.unit());
+    }
+
+    // 이력 파일 복원 시 null이 빈 문자열로 돌아오므로 동일하게 취급.
+    private static String seriesKey(String itemCode, String kindCode, String rank) {
+        return nullToEmpty(itemCode) + '|' + nullToEmpty(kindCode) + '|' + nullToEmpty(rank);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
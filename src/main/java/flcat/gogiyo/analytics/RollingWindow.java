@@ -0,0 +1,110 @@
+package flcat.gogiyo.analytics;
+
+import java.util.Arrays;
+
+/**
+ * 고정 크기 원시(double) 링 버퍼 기반 일자 윈도우 이동 통계.
+ * - 윈도우는 표본 수가 아닌 일수. 슬롯마다 일자(epochDay) 저장, 최근 일자 기준 window일 이전 값은 제외.
+ *   수신 없는 날(조회 요청 없음 등)이 있으면 윈도우 내 표본 수가 window보다 작아짐.
+ * - 윈도우별 합/제곱합을 값 추가 시점에 갱신 -> 평균/표준편차 조회 O(1).
+ * - 일자는 엄격히 증가(하루 1건)한다고 가정 -> 윈도우 내 표본 수 <= window. 버퍼 크기 = 가장 큰 윈도우.
+ * - 스레드 안전하지 않음. 호출 측(PriceSeries)에서 동기화.
+ */
+class RollingWindow {
+
+    private final int[] windows;
+    private final double[] values;
+    private final long[] days;
+    private final long[] starts; // 윈도우별 가장 오래된 포함 값 위치
+    private final double[] sums;
+    private final double[] sumSquares;
+    private long count;
+
+    RollingWindow(int... windows) {
+        if (windows.length == 0) {
+            throw new IllegalArgumentException("윈도우 크기 최소 1개 필요");
+        }
+        this.windows = windows.clone();
+        int capacity = 0;
+        for (int window : this.windows) {
+            if (window <= 0) {
+                throw new IllegalArgumentException("윈도우 크기는 양수여야 함: " + window);
+            }
+            capacity = Math.max(capacity, window);
+        }
+        this.values = new double[capacity];
+        this.days = new long[capacity];
+        this.starts = new long[this.windows.length];
+        this.sums = new double[this.windows.length];
+        this.sumSquares = new double[this.windows.length];
+    }
+
+    /**
+     * @param epochDay 값의 일자 (LocalDate.toEpochDay). 직전 값보다 커야 함.
+     */
+    void add(long epochDay, double value) {
+        for (int i = 0; i < windows.length; i++) {
+            // 새 일자 기준 [epochDay - window + 1, epochDay] 밖 값 제거. 덮어쓰기 전에 먼저 제거.
+            while (starts[i] < count && days[slot(starts[i])] <= epochDay - windows[i]) {
+                double evicted = values[slot(starts[i])];
+                sums[i] -= evicted;
+                sumSquares[i] -= evicted * evicted;
+                starts[i]++;
+            }
+            sums[i] += value;
+            sumSquares[i] += value * value;
+        }
+        values[slot(count)] = value;
+        days[slot(count)] = epochDay;
+        count++;
+
+        // 누적 합 부동소수점 오차 보정. 버퍼 한 바퀴마다 재계산 -> 분할 상환 O(1).
+        if (count % values.length == 0) {
+            resum();
+        }
+    }
+
+    int size(int windowIndex) {
+        return (int) (count - starts[windowIndex]);
+    }
+
+    double mean(int windowIndex) {
+        int n = size(windowIndex);
+        return n == 0 ? Double.NaN : sums[windowIndex] / n;
+    }
+
+    // 표본 표준편차. 표본 2개 미만이면 NaN.
+    double stddev(int windowIndex) {
+        int n = size(windowIndex);
+        if (n < 2) {
+            return Double.NaN;
+        }
+        double sum = sums[windowIndex];
+        double variance = (sumSquares[windowIndex] - sum * sum / n) / (n - 1);
+        return Math.sqrt(Math.max(0.0, variance)); // 음수 오차 방어
+    }
+
+    int windowCount() {
+        return windows.length;
+    }
+
+    int window(int windowIndex) {
+        return windows[windowIndex];
+    }
+
+    private int slot(long position) {
+        return (int) (position % values.length);
+    }
+
+    private void resum() {
+        Arrays.fill(sums, 0.0);
+        Arrays.fill(sumSquares, 0.0);
+        for (int i = 0; i < windows.length; i++) {
+            for (long p = starts[i]; p < count; p++) {
+                double v = values[slot(p)];
+                sums[i] += v;
+                sumSquares[i] += v * v;
+            }
+        }
+    }
+}
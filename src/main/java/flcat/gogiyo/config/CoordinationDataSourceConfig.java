@@ -0,0 +1,32 @@
+package flcat.gogiyo.config;
+
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 호출 조율(JdbcSnapshotCoordinator) 공유 저장소 DataSource.
+ * - DataSourceAutoConfiguration은 제외(GogiyoApplication) -> 조율 꺼져 있으면 DataSource/커넥션 풀 생성 안 함.
+ * - 켜면 spring.datasource.* 로 생성. url 미지정 시 내장 H2(인스턴스 내부 전용).
+ * - JdbcTemplate은 이 DataSource로 JdbcTemplateAutoConfiguration이 생성.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "coordination.enabled", havingValue = "true")
+public class CoordinationDataSourceConfig {
+
+    // DataSourceProperties 자체가 spring.datasource 바인딩 대상.
+    @Bean
+    public DataSourceProperties coordinationDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    public DataSource coordinationDataSource(DataSourceProperties coordinationDataSourceProperties) {
+        log.info("호출 조율 저장소 연결. url: {}", coordinationDataSourceProperties.determineUrl());
+        return coordinationDataSourceProperties.initializeDataSourceBuilder().build();
+    }
+}
@@ -0,0 +1,50 @@
+package flcat.gogiyo.config;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import flcat.gogiyo.dto.ItemPriceInfo;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * 응답 직렬화용 ObjectMapper 설정.
+ * - ItemPriceInfo에 필드 선택(fields=) 필터 연결. DTO 자체가 아닌 mix-in으로 붙여서 다른 ObjectMapper(테스트, 외부 API 응답 파싱 등)에는 영향 없음.
+ * - 필터 미지정 응답은 기본 필터(전체 필드)로 직렬화.
+ * - 내부 서비스용 바이너리 포맷(CBOR, Smile) 컨버터. Accept 헤더로 선택, 미지정 시 JSON 유지.
+ *   스프링 기본 컨버터 대신 같은 Jackson 설정(필터, 모듈 등) 적용된 ObjectMapper 사용.
+ */
+@Configuration
+public class JacksonConfig {
+
+    public static final String ITEM_PRICE_FILTER = "itemPriceFields";
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer itemPriceFilterCustomizer() {
+        return builder -> builder
+            .mixIn(ItemPriceInfo.class, ItemPriceFilterMixIn.class)
+            .filters(new SimpleFilterProvider()
+                .addFilter(ITEM_PRICE_FILTER, SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    @JsonFilter(ITEM_PRICE_FILTER)
+    interface ItemPriceFilterMixIn {
+    }
+
+    // Jackson2ObjectMapperBuilder는 prototype 빈 -> 주입마다 새 인스턴스라 factory 지정이 JSON 매퍼에 영향 없음.
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,125 @@
+package flcat.gogiyo.config;
+
+import flcat.gogiyo.support.RequestDeadline;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청 단위 처리 시한(RequestDeadline) 설정.
+ * - 컨트롤러 메소드 파라미터로 RequestDeadline 선언 시 헤더(X-Request-Timeout, ms) 또는 기본값으로 생성.
+ * - Mono 반환 컨트롤러는 DeferredResult로 비동기 처리되므로, 비동기 오류(클라이언트 연결 종료)/타임아웃 시
+ *   취소 신호 발생시켜 서비스의 외부 API 호출까지 중단.
+ */
+@Slf4j
+@Configuration
+public class RequestDeadlineConfig implements WebMvcConfigurer {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+    private static final String DEADLINE_ATTRIBUTE = RequestDeadline.class.getName();
+
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
+
+    public RequestDeadlineConfig(
+        @Value("${api.request.timeout:8s}") Duration defaultTimeout,
+        @Value("${api.request.max-timeout:30s}") Duration maxTimeout) {
+        this.defaultTimeout = defaultTimeout;
+        this.maxTimeout = maxTimeout;
+        log.info("요청 처리 시한 설정. 기본: {}, 최대: {}", defaultTimeout, maxTimeout);
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new RequestDeadlineArgumentResolver());
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerDeferredResultInterceptors(new DeadlineCancellingInterceptor());
+    }
+
+    // 헤더 값(ms) 해석. 없거나 잘못된 값이면 기본값, 최대값 초과 시 최대값으로 제한.
+    Duration resolveBudget(String headerValue) {
+        if (headerValue == null || headerValue.isBlank()) {
+            return defaultTimeout;
+        }
+        try {
+            long millis = Long.parseLong(headerValue.trim());
+            if (millis <= 0) {
+                log.debug("{} 헤더 값 무시 (0 이하): {}", TIMEOUT_HEADER, headerValue);
+                return defaultTimeout;
+            }
+            Duration requested = Duration.ofMillis(millis);
+            return requested.compareTo(maxTimeout) > 0 ? maxTimeout : requested;
+        } catch (NumberFormatException e) {
+            log.debug("{} 헤더 값 무시 (숫자 아님): {}", TIMEOUT_HEADER, headerValue);
+            return defaultTimeout;
+        }
+    }
+
+    private class RequestDeadlineArgumentResolver implements HandlerMethodArgumentResolver {
+
+        @Override
+        public boolean supportsParameter(MethodParameter parameter) {
+            return RequestDeadline.class.equals(parameter.getParameterType());
+        }
+
+        @Override
+        public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+            RequestDeadline deadline = RequestDeadline.after(resolveBudget(webRequest.getHeader(TIMEOUT_HEADER)));
+            // 비동기 처리 종료 시점에 취소 신호 보내기 위해 요청 속성에 보관.
+            webRequest.setAttribute(DEADLINE_ATTRIBUTE, deadline, RequestAttributes.SCOPE_REQUEST);
+            return deadline;
+        }
+    }
+
+    private static class DeadlineCancellingInterceptor implements DeferredResultProcessingInterceptor {
+
+        @Override
+        public <T> boolean handleTimeout(NativeWebRequest request, DeferredResult<T> deferredResult) {
+            cancel(request, "비동기 요청 타임아웃");
+            return true;
+        }
+
+        @Override
+        public <T> boolean handleError(NativeWebRequest request, DeferredResult<T> deferredResult, Throwable t) {
+            cancel(request, "비동기 요청 오류(클라이언트 연결 종료 등): " + t.getMessage());
+            return true;
+        }
+
+        // 정상 완료 후에는 이미 끝난 파이프라인이라 취소해도 영향 없음.
+        @Override
+        public <T> void afterCompletion(NativeWebRequest request, DeferredResult<T> deferredResult) {
+            RequestDeadline deadline = deadlineOf(request);
+            if (deadline != null) {
+                deadline.cancel();
+            }
+        }
+
+        private static void cancel(NativeWebRequest request, String reason) {
+            RequestDeadline deadline = deadlineOf(request);
+            if (deadline != null) {
+                log.info("요청 취소 신호 전파. 원인: {}", reason);
+                deadline.cancel();
+            }
+        }
+
+        private static RequestDeadline deadlineOf(NativeWebRequest request) {
+            return (RequestDeadline) request.getAttribute(DEADLINE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package flcat.gogiyo.config;
 
+import flcat.gogiyo.traffic.RecordingExchangeFilter;
+import flcat.gogiyo.traffic.ReplayExchangeFunction;
+import flcat.gogiyo.traffic.TrafficArchive;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
@@ -13,6 +20,9 @@ import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import reactor.netty.http.client.HttpClient;
 
 @Slf4j
@@ -24,11 +34,20 @@ public class WebClientConfig {
     private static final int RESPONSE_TIMEOUT_SECONDS = 10;
     private static final int READ_WRITE_TIMEOUT_SECONDS = 0;
 
+    // 녹화 모드 파일 기록용. 녹화 모드일 때만 생성.
+    private Scheduler trafficRecordScheduler;
+
     // 만약 여러 외부 Api를 호출한다면, 각각의 WebClient Bean을 설정하거나
     // baseUrl을 주입받아 동적으로 생성하는 방식을 고려할 수 있음
     // 여기서는 하나의 WebClient Bean을 공통으로 사용함.
     @Bean("defaultApiWebClient") //다른 WebClient Bean의 추가를 고려해 이름 지정
-    public WebClient customWebClient(WebClient.Builder webClientBuilder) { //WebClient.Builder 주입받아 사용
+    public WebClient customWebClient(WebClient.Builder webClientBuilder, //WebClient.Builder 주입받아 사용
+        // 외부 API 트래픽 녹화/재생. off(기본) | record(실제 호출 + 파일 기록) | replay(파일 응답만, 네트워크 없음)
+        @Value("${external.api.traffic.mode:off}") String trafficMode,
+        @Value("${external.api.traffic.archive:traffic/kamis-traffic.bin}") String trafficArchivePath,
+        @Value("${external.api.traffic.replay-timing:original}") String replayTiming,
+        @Value("${external.api.traffic.replay-fixed-delay:0ms}") Duration replayFixedDelay,
+        @Value("${external.api.traffic.replay-speed:1.0}") double replaySpeed) {
         HttpClient httpClient = HttpClient.create()
             .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, CONNECT_TIMEOUT_MS)
             .responseTimeout(Duration.ofSeconds(RESPONSE_TIMEOUT_SECONDS))
@@ -50,13 +69,48 @@ public class WebClientConfig {
         log.info("Custom WebClient Bean created with connectTimeout={}ms, responseTimeout={}s",
             CONNECT_TIMEOUT_MS, RESPONSE_TIMEOUT_SECONDS);
 
-        return webClientBuilder
+        webClientBuilder
             .clientConnector(new ReactorClientHttpConnector(httpClient))
             .exchangeStrategies(exchangeStrategies)
             .defaultHeader(HttpHeaders.CONTENT_TYPE,
                 MediaType.APPLICATION_JSON_VALUE) // 기본 요청 헤더 설정
-            .defaultHeader(HttpHeaders.USER_AGENT, "AppClient/1.0") //어떤 클라이언트가 요청했는지 서버에 알림
-            .build();
+            .defaultHeader(HttpHeaders.USER_AGENT, "AppClient/1.0"); //어떤 클라이언트가 요청했는지 서버에 알림
+
+        switch (trafficMode.trim().toLowerCase(Locale.ROOT)) {
+            case "record" -> {
+                TrafficArchive archive = TrafficArchive.load(Path.of(trafficArchivePath));
+                trafficRecordScheduler = Schedulers.newSingle("traffic-recorder");
+                webClientBuilder.filter(new RecordingExchangeFilter(archive, trafficRecordScheduler));
+                log.info("외부 API 트래픽 녹화 모드. archive: {}", trafficArchivePath);
+            }
+            case "replay" -> {
+                TrafficArchive archive = TrafficArchive.load(Path.of(trafficArchivePath));
+                ReplayExchangeFunction.Timing timing =
+                    ReplayExchangeFunction.Timing.valueOf(replayTiming.trim().toUpperCase(Locale.ROOT));
+                // exchangeFunction 지정 시 clientConnector 대신 사용 -> 실제 네트워크 호출 없음.
+                webClientBuilder.exchangeFunction(new ReplayExchangeFunction(
+                    archive, exchangeStrategies, timing, replayFixedDelay, replaySpeed));
+                log.info("외부 API 트래픽 재생 모드. archive: {}, 항목 {}건, timing: {}",
+                    trafficArchivePath, archive.size(), timing);
+            }
+            case "off" -> {
+            }
+            default -> throw new IllegalArgumentException(
+                "external.api.traffic.mode 값 오류 (off/record/replay): " + trafficMode);
+        }
+
+        return webClientBuilder.build();
+
+    }
 
+    // 녹화 대기 중인 항목은 마저 기록하고 종료.
+    @PreDestroy
+    void disposeTrafficRecorder() {
+        if (trafficRecordScheduler != null) {
+            trafficRecordScheduler.disposeGracefully()
+                .timeout(Duration.ofSeconds(5))
+                .onErrorResume(e -> Mono.empty())
+                .block();
+        }
     }
 }
@@ -0,0 +1,96 @@
+package flcat.gogiyo.controller;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import flcat.gogiyo.config.JacksonConfig;
+import flcat.gogiyo.dto.ItemPriceInfo;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * 가격 조회 응답 필드 선택 (fields=itemName,kindName,dpr1).
+ * - 중간 Map 변환 없이 Jackson 필터로 직렬화 단계에서 요청 필드만 출력. JSON/바이너리 Jackson 컨버터 공통.
+ * - 필드명은 Java 속성명(itemName) 또는 응답 JSON 이름(item_name) 모두 허용. 없는 필드는 400.
+ * - 필드명 검증은 핸들러 실행 전 -> 외부 호출 없이 400, 데이터 없음(204) 응답에도 잘못된 fields 무시 안 함.
+ */
+@RestControllerAdvice(assignableTypes = LivestockPriceController.class)
+public class FieldProjectionAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    static final String FIELDS_PARAM = "fields";
+
+    // 요청 필드명 -> 직렬화 속성명. 기동 시 ItemPriceInfo 필드에서 한 번 생성.
+    private static final Map<String, String> PROPERTY_NAMES = propertyNames();
+
+    // 컨트롤러 메소드보다 먼저 실행. 잘못된 필드명이면 ResponseStatusException(400).
+    @ModelAttribute
+    public void validateFields(@RequestParam(name = FIELDS_PARAM, required = false) String fields) {
+        if (fields != null && !fields.isBlank()) {
+            resolve(fields);
+        }
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+        MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        String fields = servletRequest.getServletRequest().getParameter(FIELDS_PARAM);
+        if (fields == null || fields.isBlank()) {
+            return;
+        }
+        bodyContainer.setFilters(new SimpleFilterProvider()
+            .addFilter(JacksonConfig.ITEM_PRICE_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(resolve(fields))));
+    }
+
+    static Set<String> resolve(String fields) {
+        Set<String> properties = new LinkedHashSet<>();
+        int start = 0;
+        while (start <= fields.length()) {
+            int comma = fields.indexOf(',', start);
+            int end = comma < 0 ? fields.length() : comma;
+            String name = fields.substring(start, end).trim();
+            if (!name.isEmpty()) {
+                String property = PROPERTY_NAMES.get(name);
+                if (property == null) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "알 수 없는 필드: " + name);
+                }
+                properties.add(property);
+            }
+            start = end + 1;
+        }
+        return properties;
+    }
+
+    private static Map<String, String> propertyNames() {
+        Map<String, String> names = new HashMap<>();
+        for (Field field : ItemPriceInfo.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            JsonProperty jsonProperty = field.getAnnotation(JsonProperty.class);
+            String property = jsonProperty != null && !jsonProperty.value().isEmpty()
+                ? jsonProperty.value() : field.getName();
+            names.put(field.getName(), property);
+            names.put(property, property);
+        }
+        return Map.copyOf(names);
+    }
+}
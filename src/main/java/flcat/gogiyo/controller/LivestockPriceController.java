@@ -2,9 +2,12 @@ package flcat.gogiyo.controller; // 실제 패키지 경로
 
 import flcat.gogiyo.dto.ItemPriceInfo;
 import flcat.gogiyo.service.LivestockProductPriceService;
+import flcat.gogiyo.service.PriceQueryResult;
+import flcat.gogiyo.support.RequestDeadline;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -23,13 +26,17 @@ import reactor.core.publisher.Mono;
 import java.util.Collections; // Collections.emptyList() 사용 위해
 import java.util.List;
 
-@Tag(name = "축산물 가격 정보 API", description = "외부 API 통해 전국 도매 축산물(소, 돼지, 닭고기) 가격 정보 조회.")
+@Tag(name = "축산물 가격 정보 API", description = "외부 API 통해 전국 도매 축산물(소, 돼지, 닭고기) 가격 정보 조회. Accept 헤더로 JSON(기본)/CBOR/Smile 응답 선택.")
 @RestController
 @RequestMapping("/api/v1/livestock-prices") // 축산물 특화 경로
 @RequiredArgsConstructor // Lombok: final 필드 생성자 주입
 @Slf4j
 public class LivestockPriceController {
 
+    // 외부 API 장애로 마지막 정상 응답을 대신 전달한 경우 표시. 클라이언트 즉시 재시도 방지용.
+    private static final String STALE_HEADER = "X-Data-Stale";
+    private static final String FETCHED_AT_HEADER = "X-Data-Fetched-At";
+
     private final LivestockProductPriceService livestockPriceService;
 
     // --- 범용 축산물 조회 엔드포인트 ---
@@ -38,11 +45,15 @@ public class LivestockPriceController {
     @Operation(summary = "축산물 가격 정보 조건 조회",
         description = "다양한 조건(구분, 지역, 날짜 등)으로 축산물 가격 정보 조회. 부류는 축산물 고정.",
         responses = {
-            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ItemPriceInfo.class))),
+            @ApiResponse(responseCode = "200", description = "조회 성공 (외부 API 장애 시 마지막 정상 응답 + X-Data-Stale 헤더)", content = {
+                @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ItemPriceInfo.class)),
+                @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE, schema = @Schema(implementation = ItemPriceInfo.class)),
+                @Content(mediaType = "application/x-jackson-smile", schema = @Schema(implementation = ItemPriceInfo.class))}),
             @ApiResponse(responseCode = "204", description = "데이터 없음"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터"),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
         })
+    @Parameter(name = "fields", in = ParameterIn.QUERY, description = "응답 필드 선택 (쉼표 구분, 속성명 또는 JSON 이름). 기본: 전체.", example = "itemName,kindName,rank,dpr1,day1")
     @GetMapping("/query")
     public Mono<ResponseEntity<List<ItemPriceInfo>>> queryLivestockPrices(
         @Parameter(description = "구분 (01:소매, 02:도매). 기본: 도매(02).", example = "02")
@@ -52,35 +63,40 @@ public class LivestockPriceController {
         @RequestParam(required = false) String countryCode,
 
         @Parameter(description = "조회 기준 날짜 (YYYY-MM-DD). 기본: 최근일.", example = "2025-05-13")
-        @RequestParam(required = false) String regDay, // 날짜 형식 검증은 서비스 단에서.
+        @RequestParam(required = false) String regDay, // 날짜 형식/범위 검증은 서비스 단에서 (외부 호출 전).
 
         @Parameter(description = "kg단위 환산여부 (Y/N). 기본: N.", example = "N")
-        @RequestParam(required = false) String convertKgYn) {
+        @RequestParam(required = false) String convertKgYn,
+
+        // X-Request-Timeout 헤더(ms) 또는 기본값으로 생성. 클라이언트 이탈 시 외부 API 호출도 취소됨.
+        @Parameter(hidden = true) RequestDeadline deadline) {
 
         // itemCategoryCode는 사용자 입력 X. 이 컨트롤러는 축산물 전용.
         // 서비스 호출 시 itemCategoryCode: null 전달 -> 서비스 기본값(500) 사용 유도.
         log.info("/query 요청: productClsCode={}, countryCode={}, regDay={}, convertKgYn={}",
             productClsCode, countryCode, regDay, convertKgYn);
 
-        return livestockPriceService.getPriceInfo(
+        return livestockPriceService.queryPriceInfo(
                 productClsCode,
                 null, // 서비스에서 축산물(500) 기본값 사용
                 countryCode,
                 regDay,
-                convertKgYn
+                convertKgYn,
+                deadline
             )
-            .map(priceList -> {
+            .map(result -> {
+                List<ItemPriceInfo> priceList = result.items();
                 if (priceList == null || priceList.isEmpty()) { // 방어적 null 체크 포함
                     log.info("/query 결과 없음. Params: productClsCode={}, countryCode={}, regDay={}, convertKgYn={}",
                         productClsCode, countryCode, regDay, convertKgYn);
                     return ResponseEntity.noContent().<List<ItemPriceInfo>>build();
                 }
-                log.info("/query 성공. {}건. Params: productClsCode={}, countryCode={}, regDay={}, convertKgYn={}",
-                    priceList.size(), productClsCode, countryCode, regDay, convertKgYn);
-                return ResponseEntity.ok(priceList); // 200 OK
+                log.info("/query 성공. {}건{}. Params: productClsCode={}, countryCode={}, regDay={}, convertKgYn={}",
+                    priceList.size(), result.stale() ? " (stale)" : "", productClsCode, countryCode, regDay, convertKgYn);
+                return toResponse(result); // 200 OK
             })
             .defaultIfEmpty(ResponseEntity.notFound().<List<ItemPriceInfo>>build())
-            .onErrorResume(IllegalArgumentException.class, ex -> { // 서비스단 regDay 형식 오류 등
+            .onErrorResume(IllegalArgumentException.class, ex -> { // 서비스단 파라미터 검증 실패 (regDay 형식/미래 날짜 등)
                 log.warn("/query 잘못된 파라미터: {}", ex.getMessage());
                 // TODO: 클라이언트에게 에러 원인 상세 전달 방안 고민. (현재는 400 + 빈 body)
                 return Mono.just(ResponseEntity.badRequest().body(Collections.<ItemPriceInfo>emptyList()));
@@ -94,16 +110,22 @@ public class LivestockPriceController {
 
     // --- 특정 축종별 전국 도매 가격 간편 조회 엔드포인트 ---
     @Operation(summary = "전국 도매 소고기 가격 조회", description = "지정 날짜(기본: 최근일) 전국 도매 소고기(국내산/수입산) 가격 조회.")
+    @Parameter(name = "fields", in = ParameterIn.QUERY, description = "응답 필드 선택 (쉼표 구분, 속성명 또는 JSON 이름). 기본: 전체.", example = "itemName,kindName,rank,dpr1,day1")
     @GetMapping("/beef")
     public Mono<ResponseEntity<List<ItemPriceInfo>>> getBeefPrices(
         @Parameter(description = "조회 기준 날짜 (YYYY-MM-DD). 기본: 최근일.", example = "2025-05-13")
-        @RequestParam(required = false) String regDay) {
+        @RequestParam(required = false) String regDay,
+        @Parameter(hidden = true) RequestDeadline deadline) {
         log.info("/beef 요청. 날짜: {}", regDay == null ? "최근" : regDay);
-        return livestockPriceService.getNationalWholesaleBeefPrice(regDay)
-            .map(priceList -> priceList.isEmpty() ?
+        return livestockPriceService.getNationalWholesaleBeefPrice(regDay, deadline)
+            .map(result -> result.items().isEmpty() ?
                 ResponseEntity.noContent().<List<ItemPriceInfo>>build() :
-                ResponseEntity.ok(priceList))
+                toResponse(result))
             .defaultIfEmpty(ResponseEntity.notFound().<List<ItemPriceInfo>>build())
+            .onErrorResume(IllegalArgumentException.class, ex -> { // regDay 형식 오류, 미래 날짜 등
+                log.warn("/beef 잘못된 파라미터: {}", ex.getMessage());
+                return Mono.just(ResponseEntity.badRequest().<List<ItemPriceInfo>>build());
+            })
             .onErrorResume(Exception.class, ex -> {
                 log.error("/beef 조회 오류", ex);
                 return Mono.just(ResponseEntity.internalServerError().<List<ItemPriceInfo>>build());
@@ -111,16 +133,22 @@ public class LivestockPriceController {
     }
 
     @Operation(summary = "전국 도매 돼지고기 가격 조회", description = "지정 날짜(기본: 최근일) 전국 도매 돼지고기(국내산/수입산) 가격 조회.")
+    @Parameter(name = "fields", in = ParameterIn.QUERY, description = "응답 필드 선택 (쉼표 구분, 속성명 또는 JSON 이름). 기본: 전체.", example = "itemName,kindName,rank,dpr1,day1")
     @GetMapping("/pork")
     public Mono<ResponseEntity<List<ItemPriceInfo>>> getPorkPrices(
         @Parameter(description = "조회 기준 날짜 (YYYY-MM-DD). 기본: 최근일.", example = "2025-05-13")
-        @RequestParam(required = false) String regDay) {
+        @RequestParam(required = false) String regDay,
+        @Parameter(hidden = true) RequestDeadline deadline) {
         log.info("/pork 요청. 날짜: {}", regDay == null ? "최근" : regDay);
-        return livestockPriceService.getNationalWholesalePorkPrice(regDay)
-            .map(priceList -> priceList.isEmpty() ?
+        return livestockPriceService.getNationalWholesalePorkPrice(regDay, deadline)
+            .map(result -> result.items().isEmpty() ?
                 ResponseEntity.noContent().<List<ItemPriceInfo>>build() :
-                ResponseEntity.ok(priceList))
+                toResponse(result))
             .defaultIfEmpty(ResponseEntity.notFound().<List<ItemPriceInfo>>build())
+            .onErrorResume(IllegalArgumentException.class, ex -> { // regDay 형식 오류, 미래 날짜 등
+                log.warn("/pork 잘못된 파라미터: {}", ex.getMessage());
+                return Mono.just(ResponseEntity.badRequest().<List<ItemPriceInfo>>build());
+            })
             .onErrorResume(Exception.class, ex -> {
                 log.error("/pork 조회 오류", ex);
                 return Mono.just(ResponseEntity.internalServerError().<List<ItemPriceInfo>>build());
@@ -128,20 +156,36 @@ public class LivestockPriceController {
     }
 
     @Operation(summary = "전국 도매 닭고기 가격 조회", description = "지정 날짜(기본: 최근일) 전국 도매 닭고기 가격 조회.")
+    @Parameter(name = "fields", in = ParameterIn.QUERY, description = "응답 필드 선택 (쉼표 구분, 속성명 또는 JSON 이름). 기본: 전체.", example = "itemName,kindName,rank,dpr1,day1")
     @GetMapping("/chicken")
     public Mono<ResponseEntity<List<ItemPriceInfo>>> getChickenPrices(
         @Parameter(description = "조회 기준 날짜 (YYYY-MM-DD). 기본: 최근일.", example = "2025-05-13")
-        @RequestParam(required = false) String regDay) {
+        @RequestParam(required = false) String regDay,
+        @Parameter(hidden = true) RequestDeadline deadline) {
         log.info("/chicken 요청. 날짜: {}", regDay == null ? "최근" : regDay);
-        return livestockPriceService.getNationalWholesaleChickenPrice(regDay)
-            .map(priceList -> priceList.isEmpty() ?
+        return livestockPriceService.getNationalWholesaleChickenPrice(regDay, deadline)
+            .map(result -> result.items().isEmpty() ?
                 ResponseEntity.noContent().<List<ItemPriceInfo>>build() :
-                ResponseEntity.ok(priceList))
+                toResponse(result))
             .defaultIfEmpty(ResponseEntity.notFound().<List<ItemPriceInfo>>build())
+            .onErrorResume(IllegalArgumentException.class, ex -> { // regDay 형식 오류, 미래 날짜 등
+                log.warn("/chicken 잘못된 파라미터: {}", ex.getMessage());
+                return Mono.just(ResponseEntity.badRequest().<List<ItemPriceInfo>>build());
+            })
             .onErrorResume(Exception.class, ex -> {
                 log.error("/chicken 조회 오류", ex);
                 return Mono.just(ResponseEntity.internalServerError().<List<ItemPriceInfo>>build());
             });
 
     }
+
+    private static ResponseEntity<List<ItemPriceInfo>> toResponse(PriceQueryResult result) {
+        if (!result.stale()) {
+            return ResponseEntity.ok(result.items());
+        }
+        return ResponseEntity.ok()
+            .header(STALE_HEADER, "true")
+            .header(FETCHED_AT_HEADER, String.valueOf(result.fetchedAt()))
+            .body(result.items());
+    }
 }
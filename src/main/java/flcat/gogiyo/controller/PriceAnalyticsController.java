@@ -0,0 +1,104 @@
+package flcat.gogiyo.controller;
+
+import flcat.gogiyo.analytics.PriceWindowAnalytics;
+import flcat.gogiyo.dto.PriceMoversResult;
+import flcat.gogiyo.dto.PriceWindowStats;
+import flcat.gogiyo.service.PriceMoversService;
+import flcat.gogiyo.service.PriceMoversService.Horizon;
+import flcat.gogiyo.support.RequestDeadline;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Tag(name = "축산물 가격 분석 API", description = "전국 도매 축산물 품목/품종/등급별 이동평균 및 변동성, 지역별 등락 상위 조회.")
+@RestController
+@RequestMapping("/api/v1/livestock-prices/analytics")
+@RequiredArgsConstructor
+@Slf4j
+public class PriceAnalyticsController {
+
+    private final PriceWindowAnalytics priceWindowAnalytics;
+    private final PriceMoversService priceMoversService;
+
+    // 수집된 일별 가격 기준 통계. 외부 API 호출 없음 (스냅샷 수신 시 미리 누적).
+    @Operation(summary = "이동평균/변동성 조회",
+        description = "품목/품종/등급별 7/30/90일 이동평균 가격과 일간 변동률 표준편차(%) 조회. 전국 도매 조회 시 누적된 데이터 기준.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = PriceWindowStats.class)))),
+            @ApiResponse(responseCode = "404", description = "누적된 계열 없음 또는 지원하지 않는 윈도우")
+        })
+    @GetMapping("/moving-averages")
+    public Mono<ResponseEntity<List<PriceWindowStats>>> getMovingAverages(
+        @Parameter(description = "품목 코드", example = "4301", required = true)
+        @RequestParam String itemCode,
+
+        @Parameter(description = "품종 코드", example = "21", required = true)
+        @RequestParam String kindCode,
+
+        @Parameter(description = "등급", example = "1등급", required = true)
+        @RequestParam String rank,
+
+        @Parameter(description = "윈도우 (7/30/90일). 기본: 전체.", example = "30")
+        @RequestParam(required = false) Integer window) {
+
+        log.info("/analytics/moving-averages 요청: itemCode={}, kindCode={}, rank={}, window={}",
+            itemCode, kindCode, rank, window);
+
+        return Mono.justOrEmpty(priceWindowAnalytics.getStats(itemCode, kindCode, rank, window))
+            .map(ResponseEntity::ok)
+            .defaultIfEmpty(ResponseEntity.notFound().<List<PriceWindowStats>>build());
+    }
+
+    // 지역별 전체 목록(/query) 받아 클라이언트에서 정렬하는 대신 서버에서 상위 N만 계산. regDay별 캐시 (세 기간 공유).
+    @Operation(summary = "가격 등락 상위 조회",
+        description = "전국 및 주요 지역 도매 축산물 전체 대상 일간/주간/월간 등락률 상위(상승/하락) 조회. dpr1 대비 dpr2(1일전)/dpr3(1주일전)/dpr5(1개월전) 기준.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = PriceMoversResult.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 horizon, regDay 또는 limit"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+        })
+    @GetMapping("/movers")
+    public Mono<ResponseEntity<PriceMoversResult>> getTopMovers(
+        @Parameter(description = "비교 기간 (daily/weekly/monthly). 기본: daily.", example = "weekly")
+        @RequestParam(defaultValue = "daily") String horizon,
+
+        @Parameter(description = "조회 날짜 (yyyy-MM-dd). 없으면 최근 조사일.", example = "2025-05-13")
+        @RequestParam(required = false) String regDay,
+
+        @Parameter(description = "상승/하락 각각 반환 개수 (1~50). 기본: 10.", example = "10")
+        @RequestParam(defaultValue = "10") int limit,
+
+        @Parameter(hidden = true) RequestDeadline deadline) {
+
+        log.info("/analytics/movers 요청: horizon={}, regDay={}, limit={}", horizon, regDay, limit);
+
+        return Mono.fromCallable(() -> Horizon.parse(horizon))
+            .flatMap(parsed -> priceMoversService.getTopMovers(regDay, parsed, limit, deadline))
+            .map(ResponseEntity::ok)
+            .onErrorResume(IllegalArgumentException.class, ex -> {
+                log.warn("/analytics/movers 잘못된 파라미터: {}", ex.getMessage());
+                return Mono.just(ResponseEntity.badRequest().<PriceMoversResult>build());
+            })
+            .onErrorResume(Exception.class, ex -> {
+                log.error("/analytics/movers 예상치 못한 오류", ex);
+                return Mono.just(ResponseEntity.internalServerError().<PriceMoversResult>build());
+            });
+    }
+}
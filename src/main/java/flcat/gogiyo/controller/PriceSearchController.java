@@ -0,0 +1,93 @@
+package flcat.gogiyo.controller;
+
+import flcat.gogiyo.dto.PriceSearchResult;
+import flcat.gogiyo.search.PriceSearchIndex;
+import flcat.gogiyo.search.PriceSearchQuery;
+import flcat.gogiyo.service.LivestockProductPriceService;
+import flcat.gogiyo.support.RequestDeadline;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@Tag(name = "축산물 가격 검색 API", description = "최신 전국 도매 축산물 스냅샷 대상 서버 측 검색.")
+@RestController
+@RequestMapping("/api/v1/livestock-prices/search")
+@RequiredArgsConstructor
+@Slf4j
+public class PriceSearchController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final PriceSearchIndex priceSearchIndex;
+    private final LivestockProductPriceService livestockPriceService;
+
+    // 전체 목록(/query) 내려받아 클라이언트에서 거르는 대신 서버 색인으로 필요한 항목만 전달.
+    @Operation(summary = "축산물 가격 검색",
+        description = "품목명/품종명/등급/단위 접두어 조건(AND)으로 최신 전국 도매 스냅샷 검색. 정렬 및 커서 페이지네이션 지원.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "검색 성공 (결과 0건 포함)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = PriceSearchResult.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 정렬/커서/페이지 크기"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+        })
+    @GetMapping
+    public Mono<ResponseEntity<PriceSearchResult>> search(
+        @Parameter(description = "품목명 접두어", example = "소")
+        @RequestParam(required = false) String itemName,
+
+        @Parameter(description = "품종명 접두어", example = "한우")
+        @RequestParam(required = false) String kindName,
+
+        @Parameter(description = "등급 접두어", example = "1등급")
+        @RequestParam(required = false) String rank,
+
+        @Parameter(description = "단위 접두어", example = "100g")
+        @RequestParam(required = false) String unit,
+
+        @Parameter(description = "정렬 (itemName|kindName|rank|unit|price)[,asc|desc]. 기본: itemName,asc.", example = "price,desc")
+        @RequestParam(required = false) String sort,
+
+        @Parameter(description = "페이지 크기 (1~100). 기본: 20.", example = "20")
+        @RequestParam(defaultValue = "20") int size,
+
+        @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor)")
+        @RequestParam(required = false) String cursor,
+
+        @Parameter(hidden = true) RequestDeadline deadline) {
+
+        log.info("/search 요청: itemName={}, kindName={}, rank={}, unit={}, sort={}, size={}, cursor={}",
+            itemName, kindName, rank, unit, sort, size, cursor != null);
+
+        PriceSearchQuery query = new PriceSearchQuery(itemName, kindName, rank, unit, sort,
+            Math.min(size, MAX_PAGE_SIZE), cursor);
+
+        // 색인 비어있으면(기동 직후 등) 최신 스냅샷 먼저 조회. 스냅샷 리스너로 색인 채워짐.
+        Mono<Void> warmUp = priceSearchIndex.isEmpty()
+            ? livestockPriceService.getNationalWholesaleLivestockSnapshot(null, deadline).then()
+            : Mono.empty();
+
+        return warmUp
+            .then(Mono.fromCallable(() -> ResponseEntity.ok(priceSearchIndex.search(query))))
+            .onErrorResume(IllegalArgumentException.class, ex -> {
+                log.warn("/search 잘못된 파라미터: {}", ex.getMessage());
+                return Mono.just(ResponseEntity.badRequest().<PriceSearchResult>build());
+            })
+            .onErrorResume(Exception.class, ex -> {
+                log.error("/search 예상치 못한 오류", ex);
+                return Mono.just(ResponseEntity.internalServerError().<PriceSearchResult>build());
+            });
+    }
+}
@@ -0,0 +1,201 @@
+package flcat.gogiyo.coordination;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flcat.gogiyo.dto.ItemPriceInfo;
+import jakarta.annotation.PostConstruct;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 공유 JDBC 저장소 기반 호출 조율 (coordination.enabled=true).
+ * - price_snapshot: 조건별 마지막 게시 결과. snapshotTtl 이내면 외부 호출 없이 사용.
+ * - price_fetch_lease: 조건별 호출 담당 임대. 먼저 잡은 인스턴스만 외부 호출 후 결과 게시.
+ * - 임대 못 잡은 인스턴스는 pollInterval 간격으로 게시 대기. 담당 인스턴스가 실패/중단하면 임대 해제(또는 만료) 후 다른 인스턴스가 이어받음.
+ * - 저장소 오류 시 조율 포기하고 직접 호출 (가용성 우선).
+ * 저장소는 spring.datasource.* (예: H2 서버 모드 jdbc:h2:tcp://host:9092/gogiyo, CoordinationDataSourceConfig). 시각은 epoch ms로 저장해 DB 방언 의존 없음.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "coordination.enabled", havingValue = "true")
+public class JdbcSnapshotCoordinator implements SnapshotCoordinator {
+
+    // H2 기준 DDL. 다른 DB는 coordination.initialize-schema=false 후 같은 구조로 미리 생성.
+    private static final List<String> SCHEMA = List.of(
+        "CREATE TABLE IF NOT EXISTS price_snapshot ("
+            + "query_key VARCHAR(200) PRIMARY KEY, payload CLOB NOT NULL, "
+            + "fetched_at BIGINT NOT NULL, fetched_by VARCHAR(100) NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS price_fetch_lease ("
+            + "query_key VARCHAR(200) PRIMARY KEY, owner VARCHAR(100) NOT NULL, expires_at BIGINT NOT NULL)");
+
+    private static final TypeReference<List<ItemPriceInfo>> ITEMS_TYPE = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final String instanceId;
+    private final Duration snapshotTtl;
+    private final Duration leaseTimeout;
+    private final Duration pollInterval;
+    private final boolean initializeSchema;
+    private final Clock clock;
+
+    @Autowired
+    public JdbcSnapshotCoordinator(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+        @Value("${coordination.instance-id:}") String instanceId,
+        @Value("${coordination.snapshot-ttl:5m}") Duration snapshotTtl,
+        @Value("${coordination.lease-timeout:45s}") Duration leaseTimeout,
+        @Value("${coordination.poll-interval:500ms}") Duration pollInterval,
+        @Value("${coordination.initialize-schema:true}") boolean initializeSchema) {
+        this(jdbcTemplate, objectMapper, instanceId, snapshotTtl, leaseTimeout, pollInterval, initializeSchema,
+            Clock.systemUTC());
+    }
+
+    JdbcSnapshotCoordinator(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, String instanceId,
+        Duration snapshotTtl, Duration leaseTimeout, Duration pollInterval, boolean initializeSchema, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.instanceId = StringUtils.hasText(instanceId) ? instanceId : UUID.randomUUID().toString();
+        this.snapshotTtl = snapshotTtl;
+        this.leaseTimeout = leaseTimeout;
+        this.pollInterval = pollInterval;
+        this.initializeSchema = initializeSchema;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    void initialize() {
+        if (initializeSchema) {
+            SCHEMA.forEach(jdbcTemplate::execute);
+        }
+        log.info("호출 조율 모드 활성화. instanceId: {}, snapshotTtl: {}, leaseTimeout: {}",
+            instanceId, snapshotTtl, leaseTimeout);
+    }
+
+    @Override
+    public Mono<List<ItemPriceInfo>> fetch(String queryKey, Mono<List<ItemPriceInfo>> upstream) {
+        return Mono.defer(() -> attempt(queryKey, upstream, clock.millis() + leaseTimeout.toMillis()));
+    }
+
+    // 게시 결과 확인 -> 임대 시도 -> 대기 순. 대기 상한 넘으면 직접 호출.
+    private Mono<List<ItemPriceInfo>> attempt(String queryKey, Mono<List<ItemPriceInfo>> upstream, long waitUntil) {
+        return Mono.fromCallable(() -> {
+                List<ItemPriceInfo> published = readPublished(queryKey);
+                if (published != null) {
+                    return new Step(StepKind.PUBLISHED, published);
+                }
+                return new Step(tryAcquire(queryKey) ? StepKind.LEADER : StepKind.WAIT, null);
+            })
+            .subscribeOn(Schedulers.boundedElastic())
+            .onErrorResume(DataAccessException.class, e -> {
+                log.warn("공유 저장소 접근 실패. 조율 없이 직접 호출. 조건: {}, 원인: {}", queryKey, e.getMessage());
+                return Mono.just(new Step(StepKind.UNCOORDINATED, null));
+            })
+            .flatMap(step -> switch (step.kind()) {
+                case PUBLISHED -> {
+                    log.debug("게시된 결과 사용. 조건: {}", queryKey);
+                    yield Mono.just(step.items());
+                }
+                case LEADER -> fetchAsLeader(queryKey, upstream);
+                case UNCOORDINATED -> upstream;
+                case WAIT -> {
+                    if (clock.millis() >= waitUntil) {
+                        log.warn("게시 대기 시간 초과. 직접 호출. 조건: {}", queryKey);
+                        yield upstream;
+                    }
+                    yield Mono.delay(pollInterval).then(Mono.defer(() -> attempt(queryKey, upstream, waitUntil)));
+                }
+            });
+    }
+
+    private Mono<List<ItemPriceInfo>> fetchAsLeader(String queryKey, Mono<List<ItemPriceInfo>> upstream) {
+        log.debug("호출 담당으로 선출. 조건: {}", queryKey);
+        return upstream
+            .flatMap(items -> Mono.fromCallable(() -> {
+                publish(queryKey, items);
+                return items;
+            }).subscribeOn(Schedulers.boundedElastic()))
+            // 성공/실패/취소 모두 임대 반환 -> 대기 중인 인스턴스가 바로 이어받음.
+            .doFinally(signal -> Schedulers.boundedElastic().schedule(() -> release(queryKey)));
+    }
+
+    List<ItemPriceInfo> readPublished(String queryKey) {
+        long freshAfter = clock.millis() - snapshotTtl.toMillis();
+        List<String> payloads = jdbcTemplate.queryForList(
+            "SELECT payload FROM price_snapshot WHERE query_key = ? AND fetched_at >= ?",
+            String.class, queryKey, freshAfter);
+        if (payloads.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(payloads.get(0), ITEMS_TYPE);
+        } catch (JsonProcessingException e) {
+            log.warn("게시 결과 해석 실패. 무시하고 새로 조회. 조건: {}, 원인: {}", queryKey, e.getMessage());
+            return null;
+        }
+    }
+
+    // 만료됐거나 없는 임대만 획득. 동시 INSERT는 기본키 충돌로 한 곳만 성공.
+    // 같은 인스턴스의 동시 요청도 임대 보유 중이면 대기 -> 인스턴스 내 중복 호출도 방지.
+    boolean tryAcquire(String queryKey) {
+        long now = clock.millis();
+        long expiresAt = now + leaseTimeout.toMillis();
+        int updated = jdbcTemplate.update(
+            "UPDATE price_fetch_lease SET owner = ?, expires_at = ? WHERE query_key = ? AND expires_at < ?",
+            instanceId, expiresAt, queryKey, now);
+        if (updated > 0) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update("INSERT INTO price_fetch_lease (query_key, owner, expires_at) VALUES (?, ?, ?)",
+                queryKey, instanceId, expiresAt) > 0;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    // 게시 실패는 응답에 영향 없음 (다른 인스턴스가 직접 호출하게 될 뿐).
+    void publish(String queryKey, List<ItemPriceInfo> items) {
+        try {
+            String payload = objectMapper.writeValueAsString(items);
+            long now = clock.millis();
+            int updated = jdbcTemplate.update(
+                "UPDATE price_snapshot SET payload = ?, fetched_at = ?, fetched_by = ? WHERE query_key = ?",
+                payload, now, instanceId, queryKey);
+            if (updated == 0) {
+                jdbcTemplate.update(
+                    "INSERT INTO price_snapshot (query_key, payload, fetched_at, fetched_by) VALUES (?, ?, ?, ?)",
+                    queryKey, payload, now, instanceId);
+            }
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("조회 결과 게시 실패. 조건: {}, 원인: {}", queryKey, e.getMessage());
+        }
+    }
+
+    void release(String queryKey) {
+        try {
+            jdbcTemplate.update("DELETE FROM price_fetch_lease WHERE query_key = ? AND owner = ?", queryKey, instanceId);
+        } catch (DataAccessException e) {
+            log.warn("호출 임대 반환 실패 (만료 시 자동 해제). 조건: {}, 원인: {}", queryKey, e.getMessage());
+        }
+    }
+
+    private enum StepKind { PUBLISHED, LEADER, WAIT, UNCOORDINATED }
+
+    private record Step(StepKind kind, List<ItemPriceInfo> items) {
+    }
+}
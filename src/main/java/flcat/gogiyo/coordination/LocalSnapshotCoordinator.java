@@ -0,0 +1,18 @@
+package flcat.gogiyo.coordination;
+
+import flcat.gogiyo.dto.ItemPriceInfo;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+// 단일 인스턴스(기본) 모드. 매번 직접 외부 API 호출.
+@Component
+@ConditionalOnProperty(name = "coordination.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalSnapshotCoordinator implements SnapshotCoordinator {
+
+    @Override
+    public Mono<List<ItemPriceInfo>> fetch(String queryKey, Mono<List<ItemPriceInfo>> upstream) {
+        return upstream;
+    }
+}
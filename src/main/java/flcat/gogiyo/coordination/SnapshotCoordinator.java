@@ -0,0 +1,19 @@
+package flcat.gogiyo.coordination;
+
+import flcat.gogiyo.dto.ItemPriceInfo;
+import java.util.List;
+import reactor.core.publisher.Mono;
+
+/**
+ * 외부 API 호출 조율. 여러 인스턴스 실행 시 조회 조건별로 한 곳만 외부 API 호출하도록 하는 확장 지점.
+ * - 기본(LocalSnapshotCoordinator): 조율 없이 바로 호출.
+ * - coordination.enabled=true: 공유 저장소(JDBC) 통해 조건별 호출 인스턴스 선출, 나머지는 게시된 결과 사용.
+ */
+public interface SnapshotCoordinator {
+
+    /**
+     * @param queryKey 정규화된 조회 조건 (인증 파라미터 제외)
+     * @param upstream 외부 API 호출. 이 인스턴스가 호출 담당일 때만 구독.
+     */
+    Mono<List<ItemPriceInfo>> fetch(String queryKey, Mono<List<ItemPriceInfo>> upstream);
+}
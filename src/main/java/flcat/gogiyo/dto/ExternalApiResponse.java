@@ -1,13 +1,16 @@
 package flcat.gogiyo.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import java.util.List;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 // 외부 APi의 공통 응답 형식을 표현하는 dto
+// 역직렬화는 전용 스트리밍 구현 사용 (ExternalApiResponseDeserializer). 필드 추가 시 함께 수정 필요.
 @Data
 @NoArgsConstructor
+@JsonDeserialize(using = ExternalApiResponseDeserializer.class)
 public class ExternalApiResponse {
 
     private String condition;
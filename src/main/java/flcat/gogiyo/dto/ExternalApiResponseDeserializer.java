@@ -0,0 +1,153 @@
+package flcat.gogiyo.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import flcat.gogiyo.support.StringPool;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 외부 API 응답(ExternalApiResponse) 전용 스트리밍 역직렬화.
+ * - 리플렉션 기반 빈 바인딩 대신 필드명 switch로 바로 setter 호출.
+ * - 품목명/코드/등급/단위/날짜 라벨은 항목마다 같은 값 반복 -> StringPool로 같은 인스턴스 공유.
+ *   버퍼에서 바로 조회하므로 이미 있는 값은 String 생성 없음. 가격(dprN)은 값 종류가 많아 풀 미사용.
+ * - KAMIS 응답 형태 차이 허용: condition 배열, 데이터 없음 시 data가 배열(["001"]), 빈 값이 [] 로 오는 경우 등.
+ */
+public class ExternalApiResponseDeserializer extends StdDeserializer<ExternalApiResponse> {
+
+    // 요청 간 공유. 라벨/코드는 짧으므로 32자 초과 값은 풀에 넣지 않음.
+    private static final StringPool LABEL_POOL = new StringPool(2048, 32);
+
+    public ExternalApiResponseDeserializer() {
+        super(ExternalApiResponse.class);
+    }
+
+    @Override
+    public ExternalApiResponse deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME) {
+            return (ExternalApiResponse) ctxt.handleUnexpectedToken(ExternalApiResponse.class, p);
+        }
+        ExternalApiResponse response = new ExternalApiResponse();
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String name = p.currentName();
+            JsonToken value = p.nextToken();
+            switch (name) {
+                case "condition" -> response.setCondition(text(p, value));
+                case "data" -> response.setData(readData(p, value));
+                default -> p.skipChildren();
+            }
+        }
+        return response;
+    }
+
+    private static ExternalApiResponse.DataContent readData(JsonParser p, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        ExternalApiResponse.DataContent data = new ExternalApiResponse.DataContent();
+        if (token == JsonToken.START_ARRAY) {
+            // 데이터 없음 응답: "data": ["001"]
+            data.setItems(Collections.emptyList());
+            JsonToken element = p.nextToken();
+            if (element != JsonToken.END_ARRAY) {
+                data.setErrorCode(text(p, element));
+                while (p.nextToken() != JsonToken.END_ARRAY) {
+                    p.skipChildren();
+                }
+            }
+            return data;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            data.setErrorCode(p.getText());
+            return data;
+        }
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            JsonToken value = p.nextToken();
+            switch (name) {
+                case "item" -> data.setItems(readItems(p, value));
+                case "error_code", "errorCode" -> data.setErrorCode(text(p, value));
+                case "message" -> data.setMessage(text(p, value));
+                default -> p.skipChildren();
+            }
+        }
+        return data;
+    }
+
+    private static List<ItemPriceInfo> readItems(JsonParser p, JsonToken token) throws IOException {
+        if (token == JsonToken.START_OBJECT) {
+            return List.of(readItem(p)); // 항목 1건이면 배열 없이 객체로 오는 경우
+        }
+        if (token != JsonToken.START_ARRAY) {
+            p.skipChildren();
+            return Collections.emptyList();
+        }
+        List<ItemPriceInfo> items = new ArrayList<>();
+        for (JsonToken element = p.nextToken(); element != JsonToken.END_ARRAY; element = p.nextToken()) {
+            if (element == JsonToken.START_OBJECT) {
+                items.add(readItem(p));
+            } else {
+                p.skipChildren();
+            }
+        }
+        return items;
+    }
+
+    private static ItemPriceInfo readItem(JsonParser p) throws IOException {
+        ItemPriceInfo item = new ItemPriceInfo();
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            JsonToken value = p.nextToken();
+            switch (name) {
+                case "item_name" -> item.setItemName(pooled(p, value));
+                case "itemcode" -> item.setItemCode(pooled(p, value));
+                case "kind_name" -> item.setKindName(pooled(p, value));
+                case "kindcode" -> item.setKindCode(pooled(p, value));
+                case "rank" -> item.setRank(pooled(p, value));
+                case "unit" -> item.setUnit(pooled(p, value));
+                case "day1" -> item.setDay1(pooled(p, value));
+                case "dpr1" -> item.setDpr1(text(p, value));
+                case "day2" -> item.setDay2(pooled(p, value));
+                case "dpr2" -> item.setDpr2(text(p, value));
+                case "day3" -> item.setDay3(pooled(p, value));
+                case "dpr3" -> item.setDpr3(text(p, value));
+                case "day4" -> item.setDay4(pooled(p, value));
+                case "dpr4" -> item.setDpr4(text(p, value));
+                case "day5" -> item.setDay5(pooled(p, value));
+                case "dpr5" -> item.setDpr5(text(p, value));
+                case "day6" -> item.setDay6(pooled(p, value));
+                case "dpr6" -> item.setDpr6(text(p, value));
+                case "day7" -> item.setDay7(pooled(p, value));
+                case "dpr7" -> item.setDpr7(text(p, value));
+                default -> p.skipChildren();
+            }
+        }
+        return item;
+    }
+
+    // 스칼라 값 문자열. 배열/객체(빈 값 [] 등)는 건너뛰고 null.
+    private static String text(JsonParser p, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isStructStart()) {
+            p.skipChildren();
+            return null;
+        }
+        return p.getText();
+    }
+
+    private static String pooled(JsonParser p, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_STRING) {
+            return LABEL_POOL.canonicalize(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        }
+        return LABEL_POOL.canonicalize(text(p, token));
+    }
+}
@@ -0,0 +1,27 @@
+package flcat.gogiyo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 지역/품목별 가격 등락 1건 응답 DTO
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceMover {
+    private String countryCode; // 전국이면 null
+    private String countryName;
+    private String itemCode;
+    private String itemName;
+    private String kindCode;
+    private String kindName;
+    private String rank;
+    private String unit;
+    private String currentDay; // 비교 기준 일자 라벨 (day1)
+    private double currentPrice;
+    private String baseDay; // 비교 대상 일자 라벨 (1일전/1주일전/1개월전)
+    private double basePrice;
+    private double changeRate; // 등락률 (%)
+}
@@ -0,0 +1,23 @@
+package flcat.gogiyo.dto;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 기간별 가격 등락 상위 목록 응답 DTO
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceMoversResult {
+    private String regDay; // 조회 기준 날짜. 최근일 조회면 null.
+    private String horizon; // DAILY / WEEKLY / MONTHLY
+    private List<PriceMover> gainers; // 상승률 상위 (내림차순)
+    private List<PriceMover> losers; // 하락률 상위 (하락 폭 큰 순)
+    private int regionCount; // 데이터 조회된 지역 수
+    private boolean partial; // 일부 지역 조회 실패/대체(stale) 응답 포함 여부 (데이터 없음 지역은 해당 없음)
+    private Instant computedAt;
+}
@@ -0,0 +1,20 @@
+package flcat.gogiyo.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 축산물 검색 결과 페이지 응답 DTO
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceSearchResult {
+    private List<ItemPriceInfo> items;
+    private int totalMatches; // 조건 일치 전체 건수 (페이지 무관)
+    private String nextCursor; // 다음 페이지 조회용. 마지막 페이지면 null.
+    private LocalDate snapshotDay; // 검색 대상 스냅샷 기준일
+}
@@ -0,0 +1,27 @@
+package flcat.gogiyo.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 품목/품종/등급별 기간(윈도우) 이동 통계 응답 DTO
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceWindowStats {
+    private String itemCode;
+    private String itemName;
+    private String kindCode;
+    private String kindName;
+    private String rank;
+    private String unit;
+    private int window; // 윈도우 크기 (일)
+    private int sampleSize; // 윈도우 내 실제 적재된 일수
+    private Double movingAverage; // 이동평균 가격
+    private Double volatility; // 일간 변동률(%) 표준편차
+    private LocalDate latestDay; // 마지막 적재 일자
+    private Double latestPrice; // 마지막 적재 가격
+}
@@ -0,0 +1,299 @@
+package flcat.gogiyo.refresh;
+
+import flcat.gogiyo.dto.ItemPriceInfo;
+import flcat.gogiyo.service.LivestockProductPriceService;
+import flcat.gogiyo.service.PriceQueryResult;
+import flcat.gogiyo.support.PriceValues;
+import flcat.gogiyo.support.RequestDeadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 최신일 전국 도매 스냅샷 갱신 스케줄러. KAMIS 게시 시각(day1 라벨이 바뀌는 시각)을 학습해 조회 간격 조절.
+ * - 게시 창 안 + 오늘 새 값 아직 없음: inWindowInterval 간격으로 조회.
+ * - 그 외: minBackoff부터 두 배씩 늘려 maxBackoff까지. 다음 게시 창 시작은 넘기지 않음.
+ * - hit: day1이 바뀐 것을 관측했거나, day1이 이미 오늘(KST)인 경우(재시작 직후, 창보다 이른 게시). 하루 1회.
+ * - 게시 창: 최근 hit(새 day1 처음 관측) 시각들의 최소~최대 ± windowMargin. 표본 minSamples 미만이면 기본 창.
+ *   hit 시각은 관측 시각 기준이라 실제 게시보다 최대 조회 간격만큼 늦을 수 있음.
+ *   바뀌는 순간을 못 본 hit(이미 오늘 값)은 게시 시각을 알 수 없으므로 창 학습 표본에서 제외.
+ * - 조회 결과는 LatestSnapshotCache에 저장 -> 최신일 요청은 외부 호출 없이 캐시 응답.
+ * - 일정/hit 이력은 Micrometer 지표(gogiyo.refresh.*)로 노출.
+ * 외부 API를 주기적으로 호출하므로 명시적으로 켠 경우만 동작 (refresh.enabled=true).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "refresh.enabled", havingValue = "true")
+public class AdaptiveRefreshScheduler {
+
+    private final LivestockProductPriceService livestockProductPriceService;
+    private final Duration initialDelay;
+    private final Duration inWindowInterval;
+    private final Duration minBackoff;
+    private final Duration maxBackoff;
+    private final Duration windowMargin;
+    private final Duration pollTimeout;
+    private final int minSamples;
+    private final int historySize;
+    private final LocalTime defaultWindowStart;
+    private final LocalTime defaultWindowEnd;
+    private final Clock clock;
+    private final Scheduler scheduler;
+
+    // 상태는 모두 this 잠금으로 보호. 조회는 한 번에 1건이라 경합 거의 없음.
+    private final Deque<LocalTime> hitTimes = new ArrayDeque<>();
+    private String lastDay1;
+    private LocalDate lastHitDay;
+    private int idlePolls; // 연속으로 '창 밖 또는 오늘 값 받은 뒤' 조회한 횟수 (backoff 지수)
+    private Duration nextDelay = Duration.ZERO;
+    private volatile Disposable pending;
+    private volatile boolean stopped;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter errorCounter;
+    private final DistributionSummary hitMinuteSummary;
+
+    @Autowired
+    public AdaptiveRefreshScheduler(LivestockProductPriceService livestockProductPriceService,
+        MeterRegistry meterRegistry,
+        @Value("${refresh.initial-delay:10s}") Duration initialDelay,
+        @Value("${refresh.in-window-interval:2m}") Duration inWindowInterval,
+        @Value("${refresh.min-backoff:5m}") Duration minBackoff,
+        @Value("${refresh.max-backoff:2h}") Duration maxBackoff,
+        @Value("${refresh.window-margin:30m}") Duration windowMargin,
+        @Value("${refresh.poll-timeout:30s}") Duration pollTimeout,
+        @Value("${refresh.min-samples:3}") int minSamples,
+        @Value("${refresh.history-size:14}") int historySize,
+        @Value("${refresh.default-window-start:13:00}") String defaultWindowStart,
+        @Value("${refresh.default-window-end:17:00}") String defaultWindowEnd) {
+        this(livestockProductPriceService, meterRegistry, initialDelay, inWindowInterval, minBackoff, maxBackoff,
+            windowMargin, pollTimeout, minSamples, historySize,
+            LocalTime.parse(defaultWindowStart), LocalTime.parse(defaultWindowEnd),
+            Clock.systemUTC(), Schedulers.parallel());
+    }
+
+    AdaptiveRefreshScheduler(LivestockProductPriceService livestockProductPriceService, MeterRegistry meterRegistry,
+        Duration initialDelay, Duration inWindowInterval, Duration minBackoff, Duration maxBackoff,
+        Duration windowMargin, Duration pollTimeout, int minSamples, int historySize,
+        LocalTime defaultWindowStart, LocalTime defaultWindowEnd, Clock clock, Scheduler scheduler) {
+        this.livestockProductPriceService = livestockProductPriceService;
+        this.initialDelay = initialDelay;
+        this.inWindowInterval = inWindowInterval;
+        this.minBackoff = minBackoff;
+        this.maxBackoff = maxBackoff;
+        this.windowMargin = windowMargin;
+        this.pollTimeout = pollTimeout;
+        this.minSamples = minSamples;
+        this.historySize = historySize;
+        this.defaultWindowStart = defaultWindowStart;
+        this.defaultWindowEnd = defaultWindowEnd;
+        this.clock = clock;
+        this.scheduler = scheduler;
+
+        this.hitCounter = pollCounter(meterRegistry, "hit");
+        this.missCounter = pollCounter(meterRegistry, "miss");
+        this.errorCounter = pollCounter(meterRegistry, "error");
+        this.hitMinuteSummary = DistributionSummary.builder("gogiyo.refresh.hit.minute-of-day")
+            .description("새 day1 값 첫 관측 시각 (KST, 0시 기준 분)")
+            .register(meterRegistry);
+        Gauge.builder("gogiyo.refresh.next-delay", this, s -> s.nextDelay().toSeconds())
+            .description("다음 조회까지 대기 시간")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("gogiyo.refresh.window.start", this, s -> minuteOfDay(s.currentWindow().start()))
+            .description("학습된 게시 창 시작 (KST, 0시 기준 분)")
+            .register(meterRegistry);
+        Gauge.builder("gogiyo.refresh.window.end", this, s -> minuteOfDay(s.currentWindow().end()))
+            .description("학습된 게시 창 끝 (KST, 0시 기준 분)")
+            .register(meterRegistry);
+        Gauge.builder("gogiyo.refresh.window.samples", this, s -> s.hitSamples().size())
+            .description("게시 창 학습에 쓰인 hit 표본 수")
+            .register(meterRegistry);
+    }
+
+    private static Counter pollCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("gogiyo.refresh.polls")
+            .description("최신 스냅샷 갱신 조회 수 (hit: 새 day1 관측, miss: 변화 없음, error: 실패/대체/빈 응답)")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    // 기동 완료 후 시작.
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        log.info("최신 스냅샷 갱신 스케줄러 시작. 기본 게시 창: {}~{}, 창 안 간격: {}, 창 밖 backoff: {}~{}",
+            defaultWindowStart, defaultWindowEnd, inWindowInterval, minBackoff, maxBackoff);
+        scheduleNext(initialDelay);
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        Disposable current = pending;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    private void scheduleNext(Duration delay) {
+        if (stopped) {
+            return;
+        }
+        pending = Mono.delay(delay, scheduler)
+            .then(Mono.defer(this::pollOnce))
+            .subscribe(this::scheduleNext, ex -> {
+                // pollOnce는 오류를 삼키므로 여기 오면 예기치 않은 경우. 스케줄 끊기지 않게 최대 간격으로 재시도.
+                log.error("갱신 스케줄러 오류. {} 후 재시도.", maxBackoff, ex);
+                scheduleNext(maxBackoff);
+            });
+    }
+
+    /**
+     * 1회 조회 후 결과 기록, 다음 대기 시간 반환.
+     */
+    Mono<Duration> pollOnce() {
+        return livestockProductPriceService.refreshLatestNationalWholesaleLivestockSnapshot(
+                RequestDeadline.after(pollTimeout))
+            .map(this::record)
+            .onErrorResume(ex -> {
+                log.warn("최신 스냅샷 갱신 실패. 원인: {}", ex.getMessage());
+                return Mono.fromCallable(() -> record(null));
+            })
+            .switchIfEmpty(Mono.fromCallable(() -> record(null)));
+    }
+
+    // 조회 결과 반영. result null 또는 stale/빈 결과는 실패로 간주 (학습 상태 유지).
+    synchronized Duration record(PriceQueryResult result) {
+        ZonedDateTime now = now();
+        String day1 = result == null || result.stale() ? null : day1Of(result.items());
+        LocalDate today = now.toLocalDate();
+        boolean changed = day1 != null && lastDay1 != null && !lastDay1.equals(day1);
+        if (day1 == null) {
+            errorCounter.increment();
+        } else if (changed) {
+            recordHit(now, true);
+            log.info("새 게시 값 관측. day1: {} -> {}, 관측 시각: {}", lastDay1, day1, now.toLocalTime());
+        } else if (!today.equals(lastHitDay) && isToday(day1, today)) {
+            recordHit(now, false);
+            log.info("오늘 게시 값 이미 반영됨. day1: {}, 관측 시각: {}", day1, now.toLocalTime());
+        } else {
+            missCounter.increment();
+        }
+        if (day1 != null) {
+            lastDay1 = day1;
+        }
+        idlePolls = awaitingInWindow(now) ? 0 : idlePolls + 1;
+        nextDelay = computeNextDelay(now);
+        log.debug("다음 갱신 조회까지 {}. 게시 창: {}", nextDelay, currentWindow());
+        return nextDelay;
+    }
+
+    // 기준일을 내일로 두고 해석 -> 해석 못 하는 라벨(기준일 그대로 반환)은 오늘로 오인하지 않음.
+    private static boolean isToday(String day1, LocalDate today) {
+        return today.equals(PriceValues.resolveDay(day1, today.plusDays(1)));
+    }
+
+    // observedChange: day1이 바뀌는 것을 직접 관측한 경우만 게시 시각 표본으로 사용.
+    private void recordHit(ZonedDateTime now, boolean observedChange) {
+        hitCounter.increment();
+        lastHitDay = now.toLocalDate();
+        if (!observedChange) {
+            return;
+        }
+        LocalTime hitTime = now.toLocalTime();
+        hitMinuteSummary.record(minuteOfDay(hitTime));
+        hitTimes.addLast(hitTime);
+        while (hitTimes.size() > historySize) {
+            hitTimes.removeFirst();
+        }
+    }
+
+    private Duration computeNextDelay(ZonedDateTime now) {
+        if (awaitingInWindow(now)) {
+            return inWindowInterval;
+        }
+        // 창 밖(또는 오늘 값 이미 받음): 지수 backoff. 시프트 상한으로 overflow 방지.
+        PublishWindow window = currentWindow();
+        boolean awaitingToday = !now.toLocalDate().equals(lastHitDay);
+        Duration backoff = minBackoff.multipliedBy(1L << Math.min(Math.max(idlePolls - 1, 0), 20));
+        if (backoff.compareTo(maxBackoff) > 0) {
+            backoff = maxBackoff;
+        }
+        ZonedDateTime nextWindowStart = now.with(window.start());
+        if (!nextWindowStart.isAfter(now) || !awaitingToday) {
+            nextWindowStart = now.toLocalDate().plusDays(1).atTime(window.start()).atZone(PriceValues.KST);
+        }
+        Duration untilWindow = Duration.between(now, nextWindowStart);
+        return untilWindow.compareTo(backoff) < 0 ? untilWindow : backoff;
+    }
+
+    private boolean awaitingInWindow(ZonedDateTime now) {
+        return !now.toLocalDate().equals(lastHitDay) && currentWindow().contains(now.toLocalTime());
+    }
+
+    synchronized PublishWindow currentWindow() {
+        if (hitTimes.size() < minSamples) {
+            return new PublishWindow(defaultWindowStart, defaultWindowEnd);
+        }
+        LocalTime earliest = hitTimes.stream().min(LocalTime::compareTo).orElseThrow();
+        LocalTime latest = hitTimes.stream().max(LocalTime::compareTo).orElseThrow();
+        // 자정 넘김 방지: 0시 ~ 23:59 로 제한.
+        long startMinute = Math.max(minuteOfDay(earliest) - windowMargin.toMinutes(), 0);
+        long endMinute = Math.min(minuteOfDay(latest) + windowMargin.toMinutes(), 24 * 60 - 1);
+        return new PublishWindow(LocalTime.MIN.plusMinutes(startMinute), LocalTime.MIN.plusMinutes(endMinute));
+    }
+
+    synchronized Duration nextDelay() {
+        return nextDelay;
+    }
+
+    synchronized List<LocalTime> hitSamples() {
+        return List.copyOf(hitTimes);
+    }
+
+    private ZonedDateTime now() {
+        return clock.instant().atZone(PriceValues.KST);
+    }
+
+    // 전국 스냅샷 항목은 같은 day1 라벨 공유 ("당일 (05/13)" 등). 첫 번째 값 사용.
+    private static String day1Of(List<ItemPriceInfo> items) {
+        return items.stream().map(ItemPriceInfo::getDay1).filter(Objects::nonNull).findFirst().orElse(null);
+    }
+
+    private static long minuteOfDay(LocalTime time) {
+        return time.getHour() * 60L + time.getMinute();
+    }
+
+    /**
+     * 게시 창 (KST 시각, 양 끝 포함).
+     */
+    public record PublishWindow(LocalTime start, LocalTime end) {
+
+        public boolean contains(LocalTime time) {
+            return !time.isBefore(start) && !time.isAfter(end);
+        }
+    }
+}
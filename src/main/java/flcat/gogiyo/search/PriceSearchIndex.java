@@ -0,0 +1,363 @@
+package flcat.gogiyo.search;
+
+import flcat.gogiyo.dto.ItemPriceInfo;
+import flcat.gogiyo.dto.PriceSearchResult;
+import flcat.gogiyo.service.PriceSnapshotListener;
+import flcat.gogiyo.support.PriceValues;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 전국 도매 축산물 최신 스냅샷 대상 메모리 역색인.
+ * - 필드(itemName/kindName/rank/unit)별 토큰 -> 문서 BitSet. 접두어 검색은 TreeMap 범위 조회.
+ * - 스냅샷 수신 시 바뀐 문서만 색인 갱신 (품목/품종/등급/단위 기준 동일 문서 판단).
+ * - 과거 날짜 스냅샷(regDay 지정 조회)은 무시. 최신 기준일 이상만 반영.
+ * - 페이지네이션은 정렬 키 기반 커서 -> 페이지 사이 색인 갱신돼도 중복/누락 최소화.
+ */
+@Slf4j
+@Component
+public class PriceSearchIndex implements PriceSnapshotListener {
+
+    enum Field {
+        ITEM_NAME(ItemPriceInfo::getItemName),
+        KIND_NAME(ItemPriceInfo::getKindName),
+        RANK(ItemPriceInfo::getRank),
+        UNIT(ItemPriceInfo::getUnit);
+
+        private final Function<ItemPriceInfo, String> extractor;
+
+        Field(Function<ItemPriceInfo, String> extractor) {
+            this.extractor = extractor;
+        }
+    }
+
+    private static final String CURSOR_VERSION = "v1";
+    private static final char CURSOR_SEPARATOR = '\u0000';
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> idByKey = new HashMap<>();
+    private final List<ItemPriceInfo> docs = new ArrayList<>(); // 문서 id -> 항목. 삭제된 id는 null.
+    private final List<String> docKeys = new ArrayList<>();
+    private final ArrayDeque<Integer> freeIds = new ArrayDeque<>();
+    private final BitSet liveDocs = new BitSet();
+    private final Map<Field, TreeMap<String, BitSet>> postings = new EnumMap<>(Field.class);
+    private LocalDate snapshotDay;
+
+    public PriceSearchIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new TreeMap<>());
+        }
+    }
+
+    @Override
+    public void onSnapshot(LocalDate regDay, List<ItemPriceInfo> items) {
+        lock.writeLock().lock();
+        try {
+            if (snapshotDay != null && regDay.isBefore(snapshotDay)) {
+                log.debug("과거 스냅샷은 검색 색인에 반영 안 함. 색인 기준일: {}, 수신: {}", snapshotDay, regDay);
+                return;
+            }
+            Map<String, ItemPriceInfo> incoming = new LinkedHashMap<>();
+            for (ItemPriceInfo item : items) {
+                incoming.put(docKey(item), item);
+            }
+
+            int removed = 0;
+            int updated = 0;
+            int added = 0;
+            for (String key : new ArrayList<>(idByKey.keySet())) {
+                if (!incoming.containsKey(key)) {
+                    removeDoc(idByKey.remove(key));
+                    removed++;
+                }
+            }
+            for (Map.Entry<String, ItemPriceInfo> entry : incoming.entrySet()) {
+                Integer id = idByKey.get(entry.getKey());
+                if (id == null) {
+                    addDoc(entry.getKey(), entry.getValue());
+                    added++;
+                } else if (!docs.get(id).equals(entry.getValue())) {
+                    unindex(id);
+                    docs.set(id, entry.getValue());
+                    index(id);
+                    updated++;
+                }
+            }
+            snapshotDay = regDay;
+            log.info("검색 색인 갱신. 기준일: {}, 추가 {}, 변경 {}, 삭제 {}, 전체 {}",
+                regDay, added, updated, removed, idByKey.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        lock.readLock().lock();
+        try {
+            return idByKey.isEmpty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 조건 검색. 정렬/커서 형식 오류 시 IllegalArgumentException.
+     */
+    public PriceSearchResult search(PriceSearchQuery query) {
+        SortSpec sort = SortSpec.parse(query.sort());
+        if (query.size() <= 0) {
+            throw new IllegalArgumentException("size는 1 이상이어야 함: " + query.size());
+        }
+
+        List<SortKey> hits = new ArrayList<>();
+        LocalDate day;
+        lock.readLock().lock();
+        try {
+            BitSet matches = (BitSet) liveDocs.clone();
+            applyFilter(matches, Field.ITEM_NAME, query.itemName());
+            applyFilter(matches, Field.KIND_NAME, query.kindName());
+            applyFilter(matches, Field.RANK, query.rank());
+            applyFilter(matches, Field.UNIT, query.unit());
+            for (int id = matches.nextSetBit(0); id >= 0; id = matches.nextSetBit(id + 1)) {
+                hits.add(sort.keyOf(docs.get(id), docKeys.get(id)));
+            }
+            day = snapshotDay;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Comparator<SortKey> comparator = sort.comparator();
+        hits.sort(comparator);
+
+        int from = 0;
+        if (StringUtils.hasText(query.cursor())) {
+            SortKey after = decodeCursor(query.cursor(), sort);
+            from = firstAfter(hits, after, comparator);
+        }
+        int to = Math.min(hits.size(), from + query.size());
+        List<ItemPriceInfo> page = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            page.add(hits.get(i).item());
+        }
+        String nextCursor = to < hits.size() ? encodeCursor(hits.get(to - 1), sort) : null;
+
+        return PriceSearchResult.builder()
+            .items(page)
+            .totalMatches(hits.size())
+            .nextCursor(nextCursor)
+            .snapshotDay(day)
+            .build();
+    }
+
+    // --- 색인 관리 (쓰기 잠금 안에서 호출) ---
+
+    private void addDoc(String key, ItemPriceInfo item) {
+        int id;
+        if (freeIds.isEmpty()) {
+            id = docs.size();
+            docs.add(item);
+            docKeys.add(key);
+        } else {
+            id = freeIds.poll();
+            docs.set(id, item);
+            docKeys.set(id, key);
+        }
+        idByKey.put(key, id);
+        index(id);
+    }
+
+    private void removeDoc(int id) {
+        unindex(id);
+        docs.set(id, null);
+        docKeys.set(id, null);
+        freeIds.push(id);
+    }
+
+    private void index(int id) {
+        ItemPriceInfo item = docs.get(id);
+        for (Field field : Field.values()) {
+            for (String token : tokens(field.extractor.apply(item))) {
+                postings.get(field).computeIfAbsent(token, t -> new BitSet()).set(id);
+            }
+        }
+        liveDocs.set(id);
+    }
+
+    private void unindex(int id) {
+        ItemPriceInfo item = docs.get(id);
+        for (Field field : Field.values()) {
+            TreeMap<String, BitSet> fieldPostings = postings.get(field);
+            for (String token : tokens(field.extractor.apply(item))) {
+                BitSet bits = fieldPostings.get(token);
+                if (bits != null) {
+                    bits.clear(id);
+                    if (bits.isEmpty()) {
+                        fieldPostings.remove(token);
+                    }
+                }
+            }
+        }
+        liveDocs.clear(id);
+    }
+
+    // --- 검색 ---
+
+    private void applyFilter(BitSet matches, Field field, String prefix) {
+        if (!StringUtils.hasText(prefix)) {
+            return;
+        }
+        String normalized = normalize(prefix);
+        // 접두어로 시작하는 토큰 범위. Character.MAX_VALUE는 같은 접두어 뒤 어떤 문자보다 큼.
+        NavigableMap<String, BitSet> range = postings.get(field)
+            .subMap(normalized, true, normalized + Character.MAX_VALUE, true);
+        BitSet union = new BitSet();
+        for (BitSet bits : range.values()) {
+            union.or(bits);
+        }
+        matches.and(union);
+    }
+
+    private static int firstAfter(List<SortKey> sorted, SortKey after, Comparator<SortKey> comparator) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(sorted.get(mid), after) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // 전체 값 + 공백/기호 기준 분리 토큰. 예) "한우 등심(1++)" -> "한우 등심(1++)", "한우", "등심", "1"
+    static List<String> tokens(String value) {
+        if (!StringUtils.hasText(value)) {
+            return List.of();
+        }
+        String normalized = normalize(value);
+        List<String> tokens = new ArrayList<>(4);
+        tokens.add(normalized);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (start > 0 || i < normalized.length()) { // 전체 값과 같은 토큰은 중복 추가 안 함
+                    tokens.add(normalized.substring(start, i));
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String docKey(ItemPriceInfo item) {
+        return item.getItemCode() + '|' + item.getKindCode() + '|' + item.getRank() + '|' + item.getUnit();
+    }
+
+    // --- 정렬/커서 ---
+
+    private static String encodeCursor(SortKey last, SortSpec sort) {
+        String raw = String.join(String.valueOf(CURSOR_SEPARATOR), CURSOR_VERSION, sort.toString(),
+            last.text() == null ? "" : last.text(), Double.toString(last.number()), last.docKey());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static SortKey decodeCursor(String cursor, SortSpec sort) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split(String.valueOf(CURSOR_SEPARATOR), -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("cursor 형식 오류");
+        }
+        if (parts.length != 5 || !CURSOR_VERSION.equals(parts[0])) {
+            throw new IllegalArgumentException("cursor 형식 오류");
+        }
+        if (!sort.toString().equals(parts[1])) {
+            throw new IllegalArgumentException("cursor 발급 시 정렬(" + parts[1] + ")과 요청 정렬(" + sort + ")이 다름");
+        }
+        try {
+            return new SortKey(null, parts[2].isEmpty() ? null : parts[2], Double.parseDouble(parts[3]), parts[4]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("cursor 형식 오류");
+        }
+    }
+
+    /**
+     * 정렬 대상 값. 문자열 필드는 text, 가격은 number 사용. 동일 값은 docKey로 순서 고정.
+     */
+    record SortKey(ItemPriceInfo item, String text, double number, String docKey) {
+    }
+
+    record SortSpec(String field, boolean descending) {
+
+        private static final List<String> FIELDS = List.of("itemName", "kindName", "rank", "unit", "price");
+
+        static SortSpec parse(String sort) {
+            if (!StringUtils.hasText(sort)) {
+                return new SortSpec("itemName", false);
+            }
+            String[] parts = sort.split(",", 2);
+            String field = parts[0].trim();
+            if (!FIELDS.contains(field)) {
+                throw new IllegalArgumentException("지원하지 않는 정렬 필드: " + field + " (지원: " + FIELDS + ")");
+            }
+            String direction = parts.length > 1 ? parts[1].trim().toLowerCase(Locale.ROOT) : "asc";
+            if (!direction.equals("asc") && !direction.equals("desc")) {
+                throw new IllegalArgumentException("정렬 방향은 asc/desc: " + direction);
+            }
+            return new SortSpec(field, direction.equals("desc"));
+        }
+
+        SortKey keyOf(ItemPriceInfo item, String docKey) {
+            return switch (field) {
+                case "itemName" -> new SortKey(item, item.getItemName(), 0, docKey);
+                case "kindName" -> new SortKey(item, item.getKindName(), 0, docKey);
+                case "rank" -> new SortKey(item, item.getRank(), 0, docKey);
+                case "unit" -> new SortKey(item, item.getUnit(), 0, docKey);
+                default -> new SortKey(item, null, PriceValues.parsePrice(item.getDpr1()), docKey);
+            };
+        }
+
+        Comparator<SortKey> comparator() {
+            Comparator<SortKey> byValue = "price".equals(field)
+                ? Comparator.comparingDouble(SortKey::number) // NaN(가격 없음)은 Double.compare 기준 가장 큼
+                : Comparator.comparing(SortKey::text, Comparator.nullsLast(Comparator.naturalOrder()));
+            if (descending) {
+                byValue = byValue.reversed();
+            }
+            return byValue.thenComparing(SortKey::docKey);
+        }
+
+        @Override
+        public String toString() {
+            return field + (descending ? ",desc" : ",asc");
+        }
+    }
+}
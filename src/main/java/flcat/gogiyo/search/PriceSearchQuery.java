@@ -0,0 +1,11 @@
+package flcat.gogiyo.search;
+
+/**
+ * 축산물 검색 조건. 문자열 조건은 모두 접두어 일치, 지정된 조건끼리는 AND.
+ * @param sort   정렬 "필드[,asc|desc]" (itemName, kindName, rank, unit, price). null이면 itemName 오름차순.
+ * @param size   페이지 크기
+ * @param cursor 이전 페이지 응답의 nextCursor. 첫 페이지는 null.
+ */
+public record PriceSearchQuery(String itemName, String kindName, String rank, String unit,
+                               String sort, int size, String cursor) {
+}
@@ -0,0 +1,101 @@
+package flcat.gogiyo.service;
+
+import flcat.gogiyo.dto.ItemPriceInfo;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정규화된 조회 조건별 마지막 정상 응답(last-known-good) 저장소.
+ * - 항목 있는 응답만 저장. 최대 개수 초과 시 가장 오래 안 쓰인 조건부터 제거 (LRU).
+ * - 외부 API 실패 시점 기록 -> 장애 중인 조건은 외부 호출 없이 저장값으로 바로 응답.
+ * - 백그라운드 갱신은 조건별 1건만, 직전 실패 후 refreshInterval 지난 뒤에만 허용 (장애 중 재시도 폭주 방지).
+ */
+@Component
+public class LastKnownGoodStore {
+
+    public record Entry(List<ItemPriceInfo> items, Instant fetchedAt, Instant failedAt) {
+
+        public boolean degraded() {
+            return failedAt != null;
+        }
+    }
+
+    private final int maxEntries;
+    private final Duration refreshInterval;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public LastKnownGoodStore(
+        @Value("${external.api.fallback.max-entries:256}") int maxEntries,
+        @Value("${external.api.fallback.refresh-interval:30s}") Duration refreshInterval) {
+        this(maxEntries, refreshInterval, Clock.systemUTC());
+    }
+
+    LastKnownGoodStore(int maxEntries, Duration refreshInterval, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.refreshInterval = refreshInterval;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > LastKnownGoodStore.this.maxEntries;
+            }
+        };
+    }
+
+    public synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    // 정상 응답 저장. 장애 상태 해제.
+    public synchronized void put(String key, List<ItemPriceInfo> items) {
+        entries.put(key, new Entry(List.copyOf(items), clock.instant(), null));
+    }
+
+    // 외부 API가 응답은 했으나 항목 없음. 장애는 아니므로 상태만 해제 (기존 저장값 유지).
+    public synchronized void markRecovered(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.degraded()) {
+            entries.put(key, new Entry(entry.items(), entry.fetchedAt(), null));
+        }
+    }
+
+    // 외부 API 실패 기록. 저장값 없는 조건은 기록 안 함 (대체할 데이터 없음).
+    public synchronized void markFailed(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entries.put(key, new Entry(entry.items(), entry.fetchedAt(), clock.instant()));
+        }
+    }
+
+    /**
+     * 백그라운드 갱신 시작 가능 여부. 가능하면 진행 중으로 표시 -> 완료 시 finishRefresh 호출 필요.
+     */
+    public boolean tryBeginRefresh(String key) {
+        Entry entry = get(key);
+        if (entry == null || (entry.failedAt() != null
+            && clock.instant().isBefore(entry.failedAt().plus(refreshInterval)))) {
+            return false;
+        }
+        return refreshing.add(key);
+    }
+
+    public void finishRefresh(String key) {
+        refreshing.remove(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,48 @@
+package flcat.gogiyo.service;
+
+import flcat.gogiyo.dto.ItemPriceInfo;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최신일(regDay 미지정) 전국 도매 축산물 스냅샷 캐시.
+ * - 갱신 스케줄러(AdaptiveRefreshScheduler)만 채움. 스케줄러 꺼져 있으면 항상 비어 있어 기존 동작 그대로.
+ * - maxAge 지나면 무시 -> 스케줄러가 멈춰도 오래된 값 계속 응답하지 않고 직접 호출로 복귀.
+ */
+@Component
+public class LatestSnapshotCache {
+
+    public record Entry(List<ItemPriceInfo> items, Instant fetchedAt) {
+    }
+
+    private final Duration maxAge;
+    private final Clock clock;
+    private volatile Entry entry;
+
+    @Autowired
+    public LatestSnapshotCache(@Value("${refresh.max-age:3h}") Duration maxAge) {
+        this(maxAge, Clock.systemUTC());
+    }
+
+    LatestSnapshotCache(Duration maxAge, Clock clock) {
+        this.maxAge = maxAge;
+        this.clock = clock;
+    }
+
+    public Entry get() {
+        Entry current = entry;
+        if (current == null || clock.instant().isAfter(current.fetchedAt().plus(maxAge))) {
+            return null;
+        }
+        return current;
+    }
+
+    public void put(List<ItemPriceInfo> items) {
+        entry = new Entry(List.copyOf(items), clock.instant());
+    }
+}
@@ -1,10 +1,18 @@
 package flcat.gogiyo.service;
 
+import flcat.gogiyo.coordination.SnapshotCoordinator;
 import flcat.gogiyo.dto.ExternalApiResponse;
 import flcat.gogiyo.dto.ItemPriceInfo;
+import flcat.gogiyo.support.PriceQueryParams;
+import flcat.gogiyo.support.PriceValues;
+import flcat.gogiyo.support.RequestDeadline;
 import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -27,6 +35,13 @@ public class LivestockProductPriceService {
     private final String apiKey;
     private final String apiId;
     private final String baseUrl;
+    private final List<PriceSnapshotListener> snapshotListeners;
+    private final LastKnownGoodStore lastKnownGoodStore;
+    private final NoDataCache noDataCache;
+    private final SnapshotCoordinator snapshotCoordinator;
+    private final LatestSnapshotCache latestSnapshotCache;
+    // 요청 시한 초과 시점에 외부 호출이 이 시간 이상 응답 없었으면 외부 API 지연(장애)으로 판단.
+    private final Duration slowCallThreshold;
 
     // API 요청 기본값. 변경 가능성 낮아 상수로.
     private static final String DEFAULT_PRODUCT_CLS_CODE = "02"; // 도매
@@ -37,17 +52,30 @@ public class LivestockProductPriceService {
     // API 재시도 설정. 외부 API 불안정성 대비.
     private static final int MAX_RETRY_ATTEMPTS = 2;
     private static final long RETRY_DELAY_SECONDS = 1;
+    private static final double RETRY_JITTER = 0.5; // Retry.backoff 기본값과 같음, 재시도 예산 계산에도 사용
 
 
     public LivestockProductPriceService(
         @Qualifier("defaultApiWebClient") WebClient webClient, // Config Bean 명시적 주입
         @Value("${external.api.key}") String apiKey,
         @Value("${external.api.id}") String apiId,
-        @Value("${external.api.baseUrl}") String baseUrl) {
+        @Value("${external.api.baseUrl}") String baseUrl,
+        List<PriceSnapshotListener> snapshotListeners,
+        LastKnownGoodStore lastKnownGoodStore,
+        NoDataCache noDataCache,
+        SnapshotCoordinator snapshotCoordinator,
+        LatestSnapshotCache latestSnapshotCache,
+        @Value("${external.api.slow-call-threshold:5s}") Duration slowCallThreshold) {
         this.webClient = webClient;
         this.apiKey = apiKey;
         this.apiId = apiId;
         this.baseUrl = baseUrl;
+        this.snapshotListeners = snapshotListeners;
+        this.lastKnownGoodStore = lastKnownGoodStore;
+        this.noDataCache = noDataCache;
+        this.snapshotCoordinator = snapshotCoordinator;
+        this.latestSnapshotCache = latestSnapshotCache;
+        this.slowCallThreshold = slowCallThreshold;
 
         // 설정값 누락 시 경고. 앱 실행은 막지 않음 (개발 편의). 운영 시 정책 재고려.
         if (!StringUtils.hasText(this.apiKey) || !StringUtils.hasText(this.apiId)
@@ -57,13 +85,46 @@ public class LivestockProductPriceService {
     }
 
     /**
-     * 외부 API 호출하여 가격 정보 조회 (축산물만)
-     * - 비동기 처리, Reactor 사용.
-     * - 실패 시 빈 리스트 Mono 반환으로 서비스 안정성 고려.
+     * 외부 API 호출하여 가격 정보 조회 (축산물만). 처리 시한 없음.
      */
     public Mono<List<ItemPriceInfo>> getPriceInfo(
         String productClsCode, String itemCategoryCode, String countryCode,
         String regDay, String convertKgYn) {
+        return getPriceInfo(productClsCode, itemCategoryCode, countryCode, regDay, convertKgYn,
+            RequestDeadline.none());
+    }
+
+    /**
+     * 외부 API 호출하여 가격 정보 조회 (축산물만). 출처(stale 여부)는 버리고 항목만 반환.
+     */
+    public Mono<List<ItemPriceInfo>> getPriceInfo(
+        String productClsCode, String itemCategoryCode, String countryCode,
+        String regDay, String convertKgYn, RequestDeadline deadline) {
+        return queryPriceInfo(productClsCode, itemCategoryCode, countryCode, regDay, convertKgYn, deadline)
+            .map(PriceQueryResult::items);
+    }
+
+    /**
+     * 외부 API 호출하여 가격 정보 조회 (축산물만)
+     * - 비동기 처리, Reactor 사용.
+     * - 잘못된 파라미터는 외부 호출 없이 IllegalArgumentException 에러 Mono.
+     * - "데이터 없음" 응답은 같은 조건 재요청 시 일정 시간 외부 호출 없이 빈 리스트 (NoDataCache).
+     * - 실패 시 같은 조건의 마지막 정상 응답(stale 표시)으로 대체. 저장값 없으면 빈 리스트.
+     * - 장애 중인 조건은 외부 호출 없이 저장값 바로 반환하고 백그라운드에서 갱신.
+     * - deadline 남은 시간 안에서만 호출/재시도. 시한 초과 시 진행 중인 호출 중단, 취소 시 값 없이 완료.
+     */
+    public Mono<PriceQueryResult> queryPriceInfo(
+        String productClsCode, String itemCategoryCode, String countryCode,
+        String regDay, String convertKgYn, RequestDeadline deadline) {
+
+        // 형식 검증 먼저. 잘못된 값으로 외부 API 호출하지 않음.
+        try {
+            PriceQueryParams.validate(productClsCode, itemCategoryCode, countryCode, regDay, convertKgYn,
+                LocalDate.now(PriceValues.KST));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 조회 파라미터. 외부 API 호출 생략. 원인: {}", e.getMessage());
+            return Mono.error(e);
+        }
 
         // 파라미터 기본값 설정. 서비스 계층 자체 방어. (컨트롤러 외 호출 가능성)
         String actualProductClsCode = StringUtils.hasText(productClsCode) ? productClsCode : DEFAULT_PRODUCT_CLS_CODE;
@@ -84,34 +145,94 @@ public class LivestockProductPriceService {
             uriBuilder.queryParam("p_country_code", countryCode);
         }
         if (StringUtils.hasText(regDay)) {
-            // TODO: regDay 형식(YYYY-MM-DD) 검증 로직 추가 필요. 현재는 Api 서버 에러에 의존. 불필요한 Api 호출 존재.
             uriBuilder.queryParam("p_regday", regDay);
         }
         String requestUrl = uriBuilder.toUriString();
+        // 인증 파라미터 제외한 조회 조건. 기본값 적용 후 값 기준이라 생략/명시 요청이 같은 키.
+        String queryKey = String.join("|", actualProductClsCode, actualItemCategoryCode,
+            StringUtils.hasText(countryCode) ? countryCode : "", StringUtils.hasText(regDay) ? regDay : "",
+            actualConvertKgYn);
+
+        if (noDataCache.contains(queryKey)) {
+            log.debug("최근 데이터 없음 응답 받은 조건. 외부 API 호출 생략. 조건: {}", queryKey);
+            return Mono.just(PriceQueryResult.fresh(Collections.emptyList()));
+        }
+
+        LastKnownGoodStore.Entry lastKnownGood = lastKnownGoodStore.get(queryKey);
+        if (lastKnownGood != null && lastKnownGood.degraded()) {
+            log.info("외부 API 장애 상태. 마지막 정상 응답(수신: {})으로 응답. URL: {}", lastKnownGood.fetchedAt(), requestUrl);
+            refreshInBackground(queryKey, requestUrl);
+            return Mono.just(new PriceQueryResult(lastKnownGood.items(), true, lastKnownGood.fetchedAt()));
+        }
         log.info("API 호출 > URL: {}", requestUrl);
 
-        return this.webClient.get()
-            .uri(requestUrl)
-            .retrieve()
-            // HTTP 4xx, 5xx 에러 처리. API 스펙 에러코드(200, 900)는 HTTP 상태로 먼저 감지될 것.
-            .onStatus(HttpStatusCode::isError, clientResponse ->
-                clientResponse.bodyToMono(String.class)
-                    .defaultIfEmpty("오류 응답 본문이 없음.") // 본문 없을 경우 대비
-                    .flatMap(errorBody -> {
-                        log.error("API 호출 실패. Status: {}, Body: '{}', URL: {}",
-                            clientResponse.statusCode(), errorBody, requestUrl);
-                        // 커스텀 예외 고려했으나, 일단 WebClientResponseException 사용. @ControllerAdvice 처리 가능.
-                        return Mono.error(new WebClientResponseException(
-                            "외부 API 요청 오류",
-                            clientResponse.statusCode().value(),
-                            clientResponse.statusCode().toString(),
-                            clientResponse.headers().asHttpHeaders(),
-                            errorBody.getBytes(),
-                            null
-                        ));
-                    }))
-            // 응답 본문 DTO 변환.
-            .bodyToMono(ExternalApiResponse.class)
+        // 진행 중인 외부 호출 시작 시각(nanoTime). 0이면 호출 중 아님 (시작 전, 재시도 대기 등).
+        AtomicLong exchangeStartedAt = new AtomicLong();
+        // 조율 모드면 다른 인스턴스가 게시한 결과 사용 가능 (외부 호출 없음).
+        Mono<List<ItemPriceInfo>> upstream = fetchPriceInfo(requestUrl, deadline, exchangeStartedAt);
+        return deadline.bound(snapshotCoordinator.fetch(queryKey, upstream)
+                // 시한 초과/취소로 구독 해제 시 WebClient 교환도 함께 취소됨 (커넥션 반환).
+                .doOnCancel(() -> log.info("API 호출 취소 (요청 시한 초과 또는 클라이언트 이탈). URL: {}", requestUrl)))
+            .map(items -> {
+                rememberResult(queryKey, items);
+                return PriceQueryResult.fresh(items);
+            })
+            // 최종 예외 처리. 서비스 중단 방지 위해 마지막 정상 응답 또는 빈 리스트 반환.
+            // 요청 시한은 호출자가 정함 (X-Request-Timeout). 외부 호출이 slowCallThreshold 이상 응답 없던 경우만
+            // 외부 API 지연(장애)으로 기록, 그 외(짧은 시한 등)는 저장값만 대체.
+            .onErrorResume(TimeoutException.class, ex -> {
+                boolean upstreamSlow = isOutstandingLongerThan(exchangeStartedAt, slowCallThreshold);
+                log.warn("API 호출 요청 시한 초과. 외부 API 지연 여부: {}, URL: {}, 원인: {}",
+                    upstreamSlow, requestUrl, ex.getMessage());
+                return fallbackToLastKnownGood(queryKey, requestUrl, upstreamSlow);
+            })
+            .onErrorResume(WebClientResponseException.class, ex -> { // HTTP 관련 예외
+                log.error("WebClientResponseException (재시도 후 가능성 있음). URL: {}, Status: {}, Body: '{}'",
+                    requestUrl, ex.getStatusCode(), ex.getResponseBodyAsString());
+                return fallbackToLastKnownGood(queryKey, requestUrl, true);
+            })
+            .onErrorResume(Exception.class, ex -> { // 그 외 모든 예외 (네트워크, 파싱 등)
+                log.error("API 호출 중 예기치 않은 오류. URL: {}, 원인: {}", requestUrl, ex.getMessage(), ex);
+                return fallbackToLastKnownGood(queryKey, requestUrl, true);
+            });
+    }
+
+    private static boolean isOutstandingLongerThan(AtomicLong exchangeStartedAt, Duration threshold) {
+        long startedAt = exchangeStartedAt.get();
+        return startedAt != 0 && System.nanoTime() - startedAt >= threshold.toNanos();
+    }
+
+    // 외부 API 호출 (재시도 포함). 오류는 그대로 전파.
+    // exchangeStartedAt: 시도마다 시작 시각 기록, 응답/오류 수신 시 0 (시한 초과로 인한 취소 시에는 유지).
+    private Mono<List<ItemPriceInfo>> fetchPriceInfo(String requestUrl, RequestDeadline deadline,
+        AtomicLong exchangeStartedAt) {
+        // 재시도마다 요청 새로 생성되도록 defer. 시작 전 시한 초과면 호출 생략.
+        return Mono.defer(() -> deadline.isExpired()
+            ? Mono.<ExternalApiResponse>error(new TimeoutException("요청 시한 초과로 API 호출 생략"))
+            : this.webClient.get()
+                .uri(requestUrl)
+                .retrieve()
+                // HTTP 4xx, 5xx 에러 처리. API 스펙 에러코드(200, 900)는 HTTP 상태로 먼저 감지될 것.
+                .onStatus(HttpStatusCode::isError, clientResponse ->
+                    clientResponse.bodyToMono(String.class)
+                        .defaultIfEmpty("오류 응답 본문이 없음.") // 본문 없을 경우 대비
+                        .flatMap(errorBody -> {
+                            log.error("API 호출 실패. Status: {}, Body: '{}', URL: {}",
+                                clientResponse.statusCode(), errorBody, requestUrl);
+                            // 커스텀 예외 고려했으나, 일단 WebClientResponseException 사용. @ControllerAdvice 처리 가능.
+                            return Mono.error(new WebClientResponseException(
+                                "외부 API 요청 오류",
+                                clientResponse.statusCode().value(),
+                                clientResponse.statusCode().toString(),
+                                clientResponse.headers().asHttpHeaders(),
+                                errorBody.getBytes(),
+                                null
+                            ));
+                        }))
+                // 응답 본문 DTO 변환.
+                .bodyToMono(ExternalApiResponse.class)
+                .doOnSubscribe(subscription -> exchangeStartedAt.set(System.nanoTime()))
+                .doOnTerminate(() -> exchangeStartedAt.set(0)))
             .map(apiResponse -> {
                 // API 응답 객체 null 체크. (거의 없겠지만 방어용)
                 if (apiResponse == null) {
@@ -142,9 +263,11 @@ public class LivestockProductPriceService {
             })
             // 재시도 로직 (5xx 서버 에러 시). 일시적 문제 대응.
             // Exponential Backoff 등 더 정교한 전략도 있지만, 우선 간단히 구현.
-            .retryWhen(Retry.backoff(MAX_RETRY_ATTEMPTS, Duration.ofSeconds(RETRY_DELAY_SECONDS))
-                .filter(throwable -> throwable instanceof WebClientResponseException webEx
-                    && webEx.getStatusCode().is5xxServerError())
+            // 남은 시간이 이번 backoff 최대 대기(지터 포함)보다 짧으면 재시도 포기 (어차피 시한 내 응답 불가).
+            .retryWhen(Retry.from(retrySignals -> Retry.backoff(MAX_RETRY_ATTEMPTS,
+                    Duration.ofSeconds(RETRY_DELAY_SECONDS))
+                .jitter(RETRY_JITTER)
+                .filter(LivestockProductPriceService::isRetryable)
                 .doBeforeRetry(retrySignal ->
                     log.warn("API 재시도 (서버 오류). 시도: {}/{}, URL: {}, 원인: {}",
                         retrySignal.totalRetries() + 1, MAX_RETRY_ATTEMPTS, requestUrl,
@@ -153,80 +276,216 @@ public class LivestockProductPriceService {
                     log.error("API 재시도 모두 실패. URL: {}, 최종 오류: {}", requestUrl,
                         retrySignal.failure().getMessage());
                     return retrySignal.failure(); // 마지막 에러 전파
-                }))
-            // 최종 예외 처리. 서비스 중단 방지 위해 빈 리스트 반환.
-            .onErrorResume(WebClientResponseException.class, ex -> { // HTTP 관련 예외
-                log.error("WebClientResponseException (재시도 후 가능성 있음). URL: {}, Status: {}, Body: '{}'",
-                    requestUrl, ex.getStatusCode(), ex.getResponseBodyAsString());
-                return Mono.just(Collections.emptyList());
-            })
-            .onErrorResume(Exception.class, ex -> { // 그 외 모든 예외 (네트워크, 파싱 등)
-                log.error("API 호출 중 예기치 않은 오류. URL: {}, 원인: {}", requestUrl, ex.getMessage(), ex);
-                return Mono.just(Collections.emptyList());
+                })
+                .generateCompanion(retrySignals.concatMap(retrySignal ->
+                    hasBudgetForRetry(deadline, retrySignal, requestUrl)
+                        ? Mono.just(retrySignal) : Mono.error(retrySignal.failure())))));
+    }
+
+    private static boolean isRetryable(Throwable throwable) {
+        return throwable instanceof WebClientResponseException webEx && webEx.getStatusCode().is5xxServerError();
+    }
+
+    // 정상 응답 반영. 항목 없음(001 등)은 장애가 아니므로 장애 상태만 해제하고 단기 캐시.
+    private void rememberResult(String queryKey, List<ItemPriceInfo> items) {
+        if (items.isEmpty()) {
+            lastKnownGoodStore.markRecovered(queryKey);
+            noDataCache.put(queryKey);
+        } else {
+            lastKnownGoodStore.put(queryKey, items);
+        }
+    }
+
+    // upstreamFailed: 외부 API 자체 실패(재시도 후 HTTP 오류, 네트워크, 파싱)만 true -> 장애 상태 기록.
+    private Mono<PriceQueryResult> fallbackToLastKnownGood(String queryKey, String requestUrl,
+        boolean upstreamFailed) {
+        if (upstreamFailed) {
+            lastKnownGoodStore.markFailed(queryKey);
+        }
+        LastKnownGoodStore.Entry lastKnownGood = lastKnownGoodStore.get(queryKey);
+        if (lastKnownGood == null) {
+            return Mono.just(PriceQueryResult.unavailable());
+        }
+        log.warn("마지막 정상 응답(수신: {})으로 대체. URL: {}", lastKnownGood.fetchedAt(), requestUrl);
+        return Mono.just(new PriceQueryResult(lastKnownGood.items(), true, lastKnownGood.fetchedAt()));
+    }
+
+    // 장애 중인 조건 백그라운드 갱신. 조건별 1건, 직전 실패 후 일정 간격 지나야 시도 (LastKnownGoodStore 참고).
+    private void refreshInBackground(String queryKey, String requestUrl) {
+        if (!lastKnownGoodStore.tryBeginRefresh(queryKey)) {
+            return;
+        }
+        log.info("백그라운드 갱신 시작. URL: {}", requestUrl);
+        snapshotCoordinator.fetch(queryKey, fetchPriceInfo(requestUrl, RequestDeadline.none(), new AtomicLong()))
+            .doFinally(signal -> lastKnownGoodStore.finishRefresh(queryKey))
+            .subscribe(
+                items -> {
+                    rememberResult(queryKey, items);
+                    log.info("백그라운드 갱신 완료. 항목 수: {}, URL: {}", items.size(), requestUrl);
+                },
+                ex -> {
+                    lastKnownGoodStore.markFailed(queryKey);
+                    log.warn("백그라운드 갱신 실패. URL: {}, 원인: {}", requestUrl, ex.getMessage());
+                });
+    }
+
+    // n번째 재시도 대기는 최대 base × 2^n × (1 + jitter). 재시도 대상 아니거나 횟수 소진이면 backoff 쪽 판단에 맡김.
+    private boolean hasBudgetForRetry(RequestDeadline deadline, Retry.RetrySignal retrySignal, String requestUrl) {
+        long totalRetries = retrySignal.totalRetries();
+        if (!isRetryable(retrySignal.failure()) || totalRetries >= MAX_RETRY_ATTEMPTS) {
+            return true;
+        }
+        Duration worstCaseDelay = Duration.ofMillis(
+            Math.round(RETRY_DELAY_SECONDS * 1000 * (1L << totalRetries) * (1 + RETRY_JITTER)));
+        if (deadline.allows(worstCaseDelay)) {
+            return true;
+        }
+        log.warn("남은 요청 시한({}ms)이 재시도 대기({}ms)보다 짧아 재시도 생략. URL: {}",
+            deadline.remaining().toMillis(), worstCaseDelay.toMillis(), requestUrl);
+        return false;
+    }
+
+    /**
+     * 전국 도매 축산물 전체 스냅샷 조회 (필터링 전).
+     * 결과는 등록된 PriceSnapshotListener(이동 통계 등)에도 전달.
+     */
+    public Mono<List<ItemPriceInfo>> getNationalWholesaleLivestockSnapshot(String regDay) {
+        return getNationalWholesaleLivestockSnapshot(regDay, RequestDeadline.none());
+    }
+
+    public Mono<List<ItemPriceInfo>> getNationalWholesaleLivestockSnapshot(String regDay, RequestDeadline deadline) {
+        return queryNationalWholesaleLivestockSnapshot(regDay, deadline).map(PriceQueryResult::items);
+    }
+
+    // 대체(stale) 응답은 이미 전달된 데이터라 리스너에 다시 전달하지 않음.
+    // 최신일 조회는 갱신 스케줄러가 채운 캐시 있으면 외부 호출 없이 응답 (캐시 값은 채울 때 이미 리스너 전달됨).
+    public Mono<PriceQueryResult> queryNationalWholesaleLivestockSnapshot(String regDay, RequestDeadline deadline) {
+        if (!StringUtils.hasText(regDay)) {
+            LatestSnapshotCache.Entry latest = latestSnapshotCache.get();
+            if (latest != null) {
+                log.debug("최신 스냅샷 캐시로 응답 (수신: {}).", latest.fetchedAt());
+                return Mono.just(new PriceQueryResult(latest.items(), false, latest.fetchedAt()));
+            }
+        }
+        return queryPriceInfo(DEFAULT_PRODUCT_CLS_CODE, DEFAULT_ITEM_CATEGORY_CODE, null, regDay, DEFAULT_CONVERT_KG_YN,
+                deadline)
+            .doOnNext(result -> {
+                if (!result.stale()) {
+                    publishSnapshot(regDay, result.items());
+                }
+            });
+    }
+
+    /**
+     * 최신일 전국 도매 축산물 스냅샷 강제 조회 (갱신 스케줄러용).
+     * 캐시 무시하고 조회, 정상 응답(항목 있음, stale 아님)이면 캐시 갱신 + 리스너 전달.
+     */
+    public Mono<PriceQueryResult> refreshLatestNationalWholesaleLivestockSnapshot(RequestDeadline deadline) {
+        return queryPriceInfo(DEFAULT_PRODUCT_CLS_CODE, DEFAULT_ITEM_CATEGORY_CODE, null, null, DEFAULT_CONVERT_KG_YN,
+                deadline)
+            .doOnNext(result -> {
+                if (!result.stale() && !result.items().isEmpty()) {
+                    latestSnapshotCache.put(result.items());
+                    publishSnapshot(null, result.items());
+                }
             });
     }
 
     /**
      * 전국 도매 축산물(소 / 돼지 / 닭) 가격 정보 조회 및 필터링.
-     * getPriceInfo 호출 후 itemCode로 필터링.
+     * 전체 스냅샷 조회 후 itemCode로 필터링.
      */
     public Mono<List<ItemPriceInfo>> getNationalWholesaleLivestockPrice(String livestockType, String regDay) {
+        return getNationalWholesaleLivestockPrice(livestockType, regDay, RequestDeadline.none());
+    }
+
+    public Mono<List<ItemPriceInfo>> getNationalWholesaleLivestockPrice(String livestockType, String regDay,
+        RequestDeadline deadline) {
+        return queryNationalWholesaleLivestockPrice(livestockType, regDay, deadline).map(PriceQueryResult::items);
+    }
+
+    public Mono<PriceQueryResult> queryNationalWholesaleLivestockPrice(String livestockType, String regDay,
+        RequestDeadline deadline) {
         log.debug("전국 도매가 조회 요청. 축종: {}, 날짜: {}", livestockType, regDay);
 
         // 축산물 전체 조회 후 필터링.
-        return getPriceInfo(DEFAULT_PRODUCT_CLS_CODE, DEFAULT_ITEM_CATEGORY_CODE, null, regDay, DEFAULT_CONVERT_KG_YN)
-            .map(allItems -> {
-                if (allItems.isEmpty()) {
-                    log.info("필터링 대상 데이터 없음 (API 결과 비어있음). 요청 축종: {}", livestockType);
-                    return Collections.<ItemPriceInfo>emptyList();
-                }
+        return queryNationalWholesaleLivestockSnapshot(regDay, deadline)
+            .map(result -> result.withItems(filterByLivestockType(livestockType, result.items())));
+    }
 
-                log.debug("필터링 시작. 전체 항목 수: {}, 대상 축종: {}", allItems.size(), livestockType);
-
-                List<ItemPriceInfo> filteredList;
-                String typeToFilter = livestockType.toLowerCase(); // 대소문자 무시
-
-                // TODO: 코드값 하드코딩 개선 필요 (enum 또는 설정 파일 관리).
-                if ("beef".equals(typeToFilter)) {
-                    filteredList = allItems.stream()
-                        .filter(item -> item.getItemCode() != null &&
-                            ("4301".equals(item.getItemCode()) || "4401".equals(item.getItemCode()))) // 국내산/수입산 소
-                        .collect(Collectors.toList());
-                } else if ("pork".equals(typeToFilter)) {
-                    filteredList = allItems.stream()
-                        .filter(item -> item.getItemCode() != null &&
-                            ("4304".equals(item.getItemCode()) || "4402".equals(item.getItemCode()))) // 국내산/수입산 돼지
-                        .collect(Collectors.toList());
-                } else if ("chicken".equals(typeToFilter)) {
-                    filteredList = allItems.stream()
-                        .filter(item -> "9901".equals(item.getItemCode())) // 닭
-                        .collect(Collectors.toList());
-                } else {
-                    // 정의되지 않은 축종 타입.
-                    log.warn("지원하지 않는 축종 타입으로 필터링 요청. 입력값: {}", livestockType);
-                    filteredList = Collections.emptyList();
-                }
+    private List<ItemPriceInfo> filterByLivestockType(String livestockType, List<ItemPriceInfo> allItems) {
+        if (allItems.isEmpty()) {
+            log.info("필터링 대상 데이터 없음 (API 결과 비어있음). 요청 축종: {}", livestockType);
+            return Collections.<ItemPriceInfo>emptyList();
+        }
 
-                log.info("필터링 완료. 결과 항목 수: {}, 요청 축종: {}, 전체 항목 수 원본: {}",
-                    filteredList.size(), livestockType, allItems.size());
-                return filteredList;
-            });
+        log.debug("필터링 시작. 전체 항목 수: {}, 대상 축종: {}", allItems.size(), livestockType);
+
+        List<ItemPriceInfo> filteredList;
+        String typeToFilter = livestockType.toLowerCase(); // 대소문자 무시
+
+        // TODO: 코드값 하드코딩 개선 필요 (enum 또는 설정 파일 관리).
+        if ("beef".equals(typeToFilter)) {
+            filteredList = allItems.stream()
+                .filter(item -> item.getItemCode() != null &&
+                    ("4301".equals(item.getItemCode()) || "4401".equals(item.getItemCode()))) // 국내산/수입산 소
+                .collect(Collectors.toList());
+        } else if ("pork".equals(typeToFilter)) {
+            filteredList = allItems.stream()
+                .filter(item -> item.getItemCode() != null &&
+                    ("4304".equals(item.getItemCode()) || "4402".equals(item.getItemCode()))) // 국내산/수입산 돼지
+                .collect(Collectors.toList());
+        } else if ("chicken".equals(typeToFilter)) {
+            filteredList = allItems.stream()
+                .filter(item -> "9901".equals(item.getItemCode())) // 닭
+                .collect(Collectors.toList());
+        } else {
+            // 정의되지 않은 축종 타입.
+            log.warn("지원하지 않는 축종 타입으로 필터링 요청. 입력값: {}", livestockType);
+            filteredList = Collections.emptyList();
+        }
+
+        log.info("필터링 완료. 결과 항목 수: {}, 요청 축종: {}, 전체 항목 수 원본: {}",
+            filteredList.size(), livestockType, allItems.size());
+        return filteredList;
+    }
+
+    // 스냅샷 리스너 전달. 리스너 오류가 조회 응답에 영향 주지 않도록 개별 격리.
+    private void publishSnapshot(String regDay, List<ItemPriceInfo> allItems) {
+        if (allItems.isEmpty() || snapshotListeners.isEmpty()) {
+            return;
+        }
+        LocalDate referenceDay;
+        try {
+            referenceDay = StringUtils.hasText(regDay) ? LocalDate.parse(regDay) : LocalDate.now(PriceValues.KST);
+        } catch (DateTimeParseException e) {
+            log.debug("regDay 해석 불가. 스냅샷 전달 생략. regDay: {}", regDay);
+            return;
+        }
+        for (PriceSnapshotListener listener : snapshotListeners) {
+            try {
+                listener.onSnapshot(referenceDay, allItems);
+            } catch (RuntimeException e) {
+                log.error("스냅샷 리스너 처리 오류. listener: {}, 원인: {}",
+                    listener.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        }
     }
 
     // --- 편의 메소드: 각 축종별로 쉽게 호출 ---
 
     // 전국 도매 소고기 가격 (국내/수입)
-    public Mono<List<ItemPriceInfo>> getNationalWholesaleBeefPrice(String regDay) {
-        return getNationalWholesaleLivestockPrice("beef", regDay);
+    public Mono<PriceQueryResult> getNationalWholesaleBeefPrice(String regDay, RequestDeadline deadline) {
+        return queryNationalWholesaleLivestockPrice("beef", regDay, deadline);
     }
 
     // 전국 도매 돼지고기 가격 (국내/수입)
-    public Mono<List<ItemPriceInfo>> getNationalWholesalePorkPrice(String regDay) {
-        return getNationalWholesaleLivestockPrice("pork", regDay);
+    public Mono<PriceQueryResult> getNationalWholesalePorkPrice(String regDay, RequestDeadline deadline) {
+        return queryNationalWholesaleLivestockPrice("pork", regDay, deadline);
     }
 
     // 전국 도매 닭고기 가격
-    public Mono<List<ItemPriceInfo>> getNationalWholesaleChickenPrice(String regDay) {
-        return getNationalWholesaleLivestockPrice("chicken", regDay);
+    public Mono<PriceQueryResult> getNationalWholesaleChickenPrice(String regDay, RequestDeadline deadline) {
+        return queryNationalWholesaleLivestockPrice("chicken", regDay, deadline);
     }
 }
\ No newline at end of file
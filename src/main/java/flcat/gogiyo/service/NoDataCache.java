@@ -0,0 +1,62 @@
+package flcat.gogiyo.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 API "데이터 없음"(condition 001, 빈 items) 응답 단기 캐시 (negative cache).
+ * - 정규화된 조회 조건 키 -> 만료 시각. TTL 동안 같은 조건은 외부 호출 없이 빈 결과.
+ * - 휴일/미조사일 조회가 매번 KAMIS 왕복하는 것 방지. 데이터가 늦게 올라올 수 있어 TTL은 짧게.
+ */
+@Component
+public class NoDataCache {
+
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<String, Instant> expiries;
+
+    @Autowired
+    public NoDataCache(
+        @Value("${external.api.no-data.ttl:60s}") Duration ttl,
+        @Value("${external.api.no-data.max-entries:1024}") int maxEntries) {
+        this(ttl, maxEntries, Clock.systemUTC());
+    }
+
+    NoDataCache(Duration ttl, int maxEntries, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+        this.expiries = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Instant> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public synchronized boolean contains(String key) {
+        Instant expiresAt = expiries.get(key);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (clock.instant().isBefore(expiresAt)) {
+            return true;
+        }
+        expiries.remove(key);
+        return false;
+    }
+
+    public synchronized void put(String key) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+        // 삽입 순서 유지 -> 재등록 시 맨 뒤로 (가장 나중에 만료).
+        expiries.remove(key);
+        expiries.put(key, clock.instant().plus(ttl));
+    }
+}
@@ -0,0 +1,298 @@
+package flcat.gogiyo.service;
+
+import flcat.gogiyo.dto.ItemPriceInfo;
+import flcat.gogiyo.dto.PriceMover;
+import flcat.gogiyo.dto.PriceMoversResult;
+import flcat.gogiyo.support.PriceValues;
+import flcat.gogiyo.support.RequestDeadline;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 지역/품목 전체 대상 기간별 가격 등락 상위 N 계산.
+ * - 각 지역 도매 가격의 dpr 이력 컬럼 비교 (일간: dpr2, 주간: dpr3, 월간: dpr5 대비 dpr1).
+ * - 전체 정렬 대신 크기 N 힙으로 부분 선택 -> O(M log N).
+ * - 지역별 조회는 regDay당 1회. 같은 응답으로 세 기간(horizon) 모두 계산해 regDay별로 캐시.
+ *   최대 N개로 계산해두고 요청 limit만큼 잘라서 반환.
+ *   최근일(regDay 없음) 결과는 새 데이터 반영 위해 TTL 적용, 과거 날짜는 바뀌지 않으므로 LRU로만 제한.
+ * - 일부 지역이 대체(stale) 응답이거나 조회 실패(failed)면 partial 결과. 짧게(partialTtl)만 캐시 -> 복구 후 다시 계산.
+ *   데이터 없음(001) 정상 응답 지역은 실패가 아니므로 partial 아님.
+ */
+@Slf4j
+@Service
+public class PriceMoversService {
+
+    public enum Horizon {
+        DAILY(ItemPriceInfo::getDpr2, ItemPriceInfo::getDay2),
+        WEEKLY(ItemPriceInfo::getDpr3, ItemPriceInfo::getDay3),
+        MONTHLY(ItemPriceInfo::getDpr5, ItemPriceInfo::getDay5);
+
+        private final Function<ItemPriceInfo, String> basePrice;
+        private final Function<ItemPriceInfo, String> baseDay;
+
+        Horizon(Function<ItemPriceInfo, String> basePrice, Function<ItemPriceInfo, String> baseDay) {
+            this.basePrice = basePrice;
+            this.baseDay = baseDay;
+        }
+
+        public static Horizon parse(String value) {
+            try {
+                return Horizon.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("horizon은 daily/weekly/monthly 중 하나: " + value);
+            }
+        }
+    }
+
+    public static final int MAX_LIMIT = 50;
+    private static final String NATIONAL = "";
+    private static final int REGION_CONCURRENCY = 4;
+    private static final int MAX_CACHE_ENTRIES = 128;
+
+    // 도매 가격 제공 지역 (KAMIS 지역코드). 이름은 응답 표시용.
+    private static final Map<String, String> REGION_NAMES = Map.of(
+        NATIONAL, "전국", "1101", "서울", "2100", "부산", "2200", "대구", "2401", "광주", "2501", "대전");
+
+    private final LivestockProductPriceService livestockPriceService;
+    private final List<String> countryCodes; // NATIONAL 포함
+    private final Duration latestTtl;
+    private final Duration partialTtl;
+    private final Clock clock;
+
+    // 접근 순서 LRU. 동시 요청은 같은 계산 Mono(cache) 공유.
+    private final Map<String, CachedMovers> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedMovers> eldest) {
+            return size() > MAX_CACHE_ENTRIES;
+        }
+    };
+
+    @Autowired
+    public PriceMoversService(LivestockProductPriceService livestockPriceService,
+        @Value("${movers.country-codes:1101,2100,2200,2401,2501}") String countryCodes,
+        @Value("${movers.latest-ttl:10m}") Duration latestTtl,
+        @Value("${movers.partial-ttl:30s}") Duration partialTtl) {
+        this(livestockPriceService, countryCodes, latestTtl, partialTtl, Clock.systemUTC());
+    }
+
+    PriceMoversService(LivestockProductPriceService livestockPriceService, String countryCodes,
+        Duration latestTtl, Duration partialTtl, Clock clock) {
+        this.livestockPriceService = livestockPriceService;
+        List<String> codes = new ArrayList<>();
+        codes.add(NATIONAL);
+        Arrays.stream(countryCodes.split(","))
+            .map(String::trim)
+            .filter(StringUtils::hasText)
+            .forEach(codes::add);
+        this.countryCodes = List.copyOf(codes);
+        this.latestTtl = latestTtl;
+        this.partialTtl = partialTtl;
+        this.clock = clock;
+    }
+
+    /**
+     * 등락 상위 목록. 같은 (regDay, horizon)의 두 번째 요청부터는 캐시에서 바로 응답.
+     * 계산은 요청 간 공유되므로 요청 시한(deadline)은 응답 대기에만 적용 (계산 자체는 끝까지 진행 후 캐시).
+     */
+    public Mono<PriceMoversResult> getTopMovers(String regDay, Horizon horizon, int limit, RequestDeadline deadline) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            return Mono.error(new IllegalArgumentException("limit은 1~" + MAX_LIMIT + " 범위: " + limit));
+        }
+        return deadline.bound(cachedOrCompute(regDay))
+            .map(results -> results.get(horizon))
+            .map(result -> limit >= MAX_LIMIT ? result : result.toBuilder()
+                .gainers(head(result.getGainers(), limit))
+                .losers(head(result.getLosers(), limit))
+                .build());
+    }
+
+    private Mono<Map<Horizon, PriceMoversResult>> cachedOrCompute(String regDay) {
+        String key = StringUtils.hasText(regDay) ? regDay : "latest";
+        Instant now = clock.instant();
+        synchronized (cache) {
+            CachedMovers cached = cache.get(key);
+            if (cached != null && (cached.expiresAt == null || now.isBefore(cached.expiresAt))) {
+                return cached.results;
+            }
+            Instant expiresAt = StringUtils.hasText(regDay) ? null : now.plus(latestTtl);
+            // 요청 취소와 무관하게 계산 완료 시점에 캐시 정리되도록 cache() 앞에서 처리. 자기 자신 참조용 holder.
+            AtomicReference<Mono<Map<Horizon, PriceMoversResult>>> self = new AtomicReference<>();
+            Mono<Map<Horizon, PriceMoversResult>> computation = compute(regDay)
+                // 실패/빈 결과(외부 API 장애 가능성)는 캐시에 남기지 않음. 일부 지역 누락은 짧게만 유지.
+                .doOnNext(results -> {
+                    PriceMoversResult daily = results.get(Horizon.DAILY);
+                    if (daily.getRegionCount() == 0) {
+                        evict(key, self.get());
+                    } else if (daily.isPartial()) {
+                        shorten(key, self.get());
+                    }
+                })
+                .doOnError(e -> evict(key, self.get()))
+                .cache();
+            self.set(computation);
+            cache.put(key, new CachedMovers(computation, expiresAt));
+            return computation;
+        }
+    }
+
+    // 해당 계산의 캐시 항목일 때만 제거 (그 사이 새 계산으로 교체됐으면 유지).
+    private void evict(String key, Mono<Map<Horizon, PriceMoversResult>> computation) {
+        synchronized (cache) {
+            CachedMovers cached = cache.get(key);
+            if (cached != null && cached.results == computation) {
+                cache.remove(key);
+            }
+        }
+    }
+
+    private void shorten(String key, Mono<Map<Horizon, PriceMoversResult>> computation) {
+        synchronized (cache) {
+            CachedMovers cached = cache.get(key);
+            if (cached == null || cached.results != computation) {
+                return;
+            }
+            Instant partialExpiry = clock.instant().plus(partialTtl);
+            if (cached.expiresAt == null || partialExpiry.isBefore(cached.expiresAt)) {
+                cache.put(key, new CachedMovers(computation, partialExpiry));
+            }
+        }
+    }
+
+    // 지역별 1회 조회 후 세 기간 모두 계산.
+    private Mono<Map<Horizon, PriceMoversResult>> compute(String regDay) {
+        long startNanos = System.nanoTime();
+        return Flux.fromIterable(countryCodes)
+            .flatMap(code -> livestockPriceService.queryPriceInfo(null, null, NATIONAL.equals(code) ? null : code,
+                    regDay, null, RequestDeadline.none())
+                .map(result -> new RegionPrices(code, result.items(), result.stale() || result.failed())),
+                REGION_CONCURRENCY)
+            .collectList()
+            .map(fetched -> {
+                List<RegionPrices> regions = fetched.stream().filter(region -> !region.items().isEmpty()).toList();
+                // 대체 응답 또는 조회 실패 지역이 있으면 불완전 결과.
+                boolean partial = fetched.stream().anyMatch(RegionPrices::degraded);
+                Map<Horizon, PriceMoversResult> results = new EnumMap<>(Horizon.class);
+                for (Horizon horizon : Horizon.values()) {
+                    results.put(horizon, select(regions, regDay, horizon).toBuilder().partial(partial).build());
+                }
+                log.info("가격 등락 계산 완료. regDay: {}, 지역 {}/{}곳{}, {}ms", regDay, regions.size(),
+                    countryCodes.size(), partial ? " (일부 누락/대체)" : "",
+                    (System.nanoTime() - startNanos) / 1_000_000);
+                return results;
+            });
+    }
+
+    // 상승/하락 각각 크기 MAX_LIMIT 힙으로 부분 선택. 힙 진입 가능한 후보만 DTO 생성.
+    PriceMoversResult select(List<RegionPrices> regions, String regDay, Horizon horizon) {
+        BoundedHeap gainers = new BoundedHeap(MAX_LIMIT, PriceMover::getChangeRate);
+        BoundedHeap losers = new BoundedHeap(MAX_LIMIT, mover -> -mover.getChangeRate());
+        for (RegionPrices region : regions) {
+            for (ItemPriceInfo item : region.items()) {
+                double current = PriceValues.parsePrice(item.getDpr1());
+                double base = PriceValues.parsePrice(horizon.basePrice.apply(item));
+                if (Double.isNaN(current) || Double.isNaN(base) || base <= 0) {
+                    continue;
+                }
+                double changeRate = (current - base) / base * 100.0;
+                if (changeRate > 0 && gainers.accepts(changeRate)) {
+                    gainers.offer(toMover(region.countryCode(), item, horizon, current, base, changeRate));
+                } else if (changeRate < 0 && losers.accepts(-changeRate)) {
+                    losers.offer(toMover(region.countryCode(), item, horizon, current, base, changeRate));
+                }
+            }
+        }
+        return PriceMoversResult.builder()
+            .regDay(regDay)
+            .horizon(horizon.name())
+            .gainers(gainers.sortedDescending())
+            .losers(losers.sortedDescending())
+            .regionCount(regions.size())
+            .computedAt(clock.instant())
+            .build();
+    }
+
+    private static PriceMover toMover(String countryCode, ItemPriceInfo item, Horizon horizon,
+        double current, double base, double changeRate) {
+        return PriceMover.builder()
+            .countryCode(NATIONAL.equals(countryCode) ? null : countryCode)
+            .countryName(REGION_NAMES.getOrDefault(countryCode, countryCode))
+            .itemCode(item.getItemCode())
+            .itemName(item.getItemName())
+            .kindCode(item.getKindCode())
+            .kindName(item.getKindName())
+            .rank(item.getRank())
+            .unit(item.getUnit())
+            .currentDay(item.getDay1())
+            .currentPrice(current)
+            .baseDay(horizon.baseDay.apply(item))
+            .basePrice(base)
+            .changeRate(changeRate)
+            .build();
+    }
+
+    private static <T> List<T> head(List<T> list, int limit) {
+        return list.size() <= limit ? list : List.copyOf(list.subList(0, limit));
+    }
+
+    // degraded: 대체(stale) 응답 또는 조회 실패(failed)
+    record RegionPrices(String countryCode, List<ItemPriceInfo> items, boolean degraded) {
+    }
+
+    private record CachedMovers(Mono<Map<Horizon, PriceMoversResult>> results, Instant expiresAt) {
+    }
+
+    /**
+     * 점수 상위 capacity개만 유지하는 최소 힙. 루트가 현재 커트라인.
+     */
+    static final class BoundedHeap {
+
+        private final int capacity;
+        private final ToDoubleFunction<PriceMover> score;
+        private final PriorityQueue<PriceMover> heap;
+
+        BoundedHeap(int capacity, ToDoubleFunction<PriceMover> score) {
+            this.capacity = capacity;
+            this.score = score;
+            this.heap = new PriorityQueue<>(capacity + 1, Comparator.comparingDouble(score));
+        }
+
+        // 후보 점수가 힙에 들어갈 수 있는지. DTO 생성 전에 먼저 확인.
+        boolean accepts(double candidateScore) {
+            return heap.size() < capacity || candidateScore > score.applyAsDouble(heap.peek());
+        }
+
+        void offer(PriceMover mover) {
+            heap.offer(mover);
+            if (heap.size() > capacity) {
+                heap.poll();
+            }
+        }
+
+        List<PriceMover> sortedDescending() {
+            List<PriceMover> sorted = new ArrayList<>(heap);
+            sorted.sort(Comparator.comparingDouble(score).reversed());
+            return Collections.unmodifiableList(sorted);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package flcat.gogiyo.service;
+
+import flcat.gogiyo.dto.ItemPriceInfo;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 가격 조회 결과 + 출처 정보.
+ * stale: 외부 API 장애로 마지막 정상 응답(last-known-good) 대신 전달한 경우 true. fetchedAt은 해당 데이터 수신 시각.
+ * failed: 외부 API 실패 후 대체할 저장값도 없어 빈 리스트로 응답한 경우 true.
+ *   "데이터 없음(001)" 정상 응답의 빈 리스트와 구분용.
+ */
+public record PriceQueryResult(List<ItemPriceInfo> items, boolean stale, Instant fetchedAt, boolean failed) {
+
+    public PriceQueryResult(List<ItemPriceInfo> items, boolean stale, Instant fetchedAt) {
+        this(items, stale, fetchedAt, false);
+    }
+
+    public static PriceQueryResult fresh(List<ItemPriceInfo> items) {
+        return new PriceQueryResult(items, false, null);
+    }
+
+    public static PriceQueryResult unavailable() {
+        return new PriceQueryResult(Collections.emptyList(), false, null, true);
+    }
+
+    public PriceQueryResult withItems(List<ItemPriceInfo> filteredItems) {
+        return new PriceQueryResult(filteredItems, stale, fetchedAt, failed);
+    }
+}
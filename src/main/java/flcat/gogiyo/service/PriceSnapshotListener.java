@@ -0,0 +1,16 @@
+package flcat.gogiyo.service;
+
+import flcat.gogiyo.dto.ItemPriceInfo;
+import java.time.LocalDate;
+import java.util.List;
+
+// 전국 도매 축산물 스냅샷(필터링 전 전체 항목) 수신 시 호출되는 확장 지점.
+// 분석/검색 등 부가 기능이 서비스 로직 수정 없이 같은 스냅샷을 구독하도록 분리.
+public interface PriceSnapshotListener {
+
+    /**
+     * @param regDay 조회 기준 날짜 (요청 regDay, 없으면 오늘)
+     * @param items  외부 API 응답 항목 전체. 수정 금지 (다른 리스너와 공유).
+     */
+    void onSnapshot(LocalDate regDay, List<ItemPriceInfo> items);
+}
@@ -0,0 +1,83 @@
+package flcat.gogiyo.support;
+
+import java.time.LocalDate;
+
+// 외부 API 호출 전 조회 파라미터 검증. 잘못된 값은 KAMIS 왕복 없이 바로 거절.
+// 요청마다 호출되므로 정규식/날짜 파싱 없이 문자 단위로 확인. 실패 시에만 예외 생성.
+public final class PriceQueryParams {
+
+    private PriceQueryParams() {
+    }
+
+    /**
+     * 파라미터 검증. 비어있는 값은 기본값 사용 대상이라 통과.
+     *
+     * @param today regDay 미래 날짜 판단 기준 (KST 오늘)
+     * @throws IllegalArgumentException 형식/범위 벗어난 값
+     */
+    public static void validate(String productClsCode, String itemCategoryCode, String countryCode,
+        String regDay, String convertKgYn, LocalDate today) {
+        if (isPresent(productClsCode) && !"01".equals(productClsCode) && !"02".equals(productClsCode)) {
+            throw new IllegalArgumentException("productClsCode는 01(소매) 또는 02(도매): " + productClsCode);
+        }
+        if (isPresent(itemCategoryCode) && !isDigits(itemCategoryCode, 3)) {
+            throw new IllegalArgumentException("itemCategoryCode는 숫자 3자리: " + itemCategoryCode);
+        }
+        if (isPresent(countryCode) && !isDigits(countryCode, 4)) {
+            throw new IllegalArgumentException("countryCode는 숫자 4자리: " + countryCode);
+        }
+        if (isPresent(convertKgYn) && !"Y".equals(convertKgYn) && !"N".equals(convertKgYn)) {
+            throw new IllegalArgumentException("convertKgYn은 Y 또는 N: " + convertKgYn);
+        }
+        if (isPresent(regDay)) {
+            validateRegDay(regDay, today);
+        }
+    }
+
+    // yyyy-MM-dd 형식, 실제 존재하는 날짜, 오늘 이후 불가.
+    private static void validateRegDay(String regDay, LocalDate today) {
+        if (regDay.length() != 10 || regDay.charAt(4) != '-' || regDay.charAt(7) != '-') {
+            throw new IllegalArgumentException("regDay 형식은 yyyy-MM-dd: " + regDay);
+        }
+        int year = digits(regDay, 0, 4);
+        int month = digits(regDay, 5, 7);
+        int day = digits(regDay, 8, 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            throw new IllegalArgumentException("regDay 날짜 값 오류: " + regDay);
+        }
+        int requested = year * 10000 + month * 100 + day;
+        int limit = today.getYear() * 10000 + today.getMonthValue() * 100 + today.getDayOfMonth();
+        if (requested > limit) {
+            throw new IllegalArgumentException("regDay는 오늘(" + today + ") 이후일 수 없음: " + regDay);
+        }
+    }
+
+    private static boolean isPresent(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static boolean isDigits(String value, int length) {
+        return value.length() == length && digits(value, 0, length) >= 0;
+    }
+
+    // [from, to) 구간 숫자 값. 숫자 아닌 문자 있으면 -1.
+    private static int digits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package flcat.gogiyo.support;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+
+// 외부 API 응답의 문자열 가격/날짜 값 해석용 유틸.
+// 가격은 "12,345" 형태, 값 없으면 "-" 로 내려옴. 날짜 라벨은 "당일 (05/13)" 또는 "2025-05-13" 형태.
+public final class PriceValues {
+
+    // KAMIS 기준 시간대. 서버 시간대와 무관하게 '오늘' 판단 시 사용.
+    public static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private PriceValues() {
+    }
+
+    /**
+     * 가격 문자열 -> double 변환.
+     * - 쉼표 무시, 숫자 외 값("-", 빈 문자열 등)은 NaN 반환.
+     * - 요청마다 호출되므로 정규식/replace 없이 한 번 순회로 처리.
+     */
+    public static double parsePrice(String raw) {
+        if (raw == null) {
+            return Double.NaN;
+        }
+        long value = 0;
+        long fraction = 0;
+        long fractionScale = 1;
+        boolean digits = false;
+        boolean inFraction = false;
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+                if (inFraction) {
+                    fraction = fraction * 10 + (c - '0');
+                    fractionScale *= 10;
+                } else {
+                    value = value * 10 + (c - '0');
+                }
+            } else if (c == '.' && !inFraction) {
+                inFraction = true;
+            } else if (c != ',' && c != ' ') {
+                return Double.NaN; // "-" 등 값 없음 표기
+            }
+        }
+        return digits ? value + (double) fraction / fractionScale : Double.NaN;
+    }
+
+    /**
+     * 날짜 라벨 -> LocalDate 변환. 해석 불가 시 reference 그대로 반환.
+     * - "yyyy-MM-dd" 포함 시 그대로 사용.
+     * - "(MM/dd)" 형태면 reference 연도 기준. reference 보다 미래가 되면 전년도로 간주 (연말/연초 경계).
+     */
+    public static LocalDate resolveDay(String label, LocalDate reference) {
+        if (label == null) {
+            return reference;
+        }
+        int dash = label.indexOf('-');
+        if (dash >= 4 && label.length() >= dash + 6) {
+            int year = parseDigits(label, dash - 4, dash);
+            int month = parseDigits(label, dash + 1, dash + 3);
+            int day = parseDigits(label, dash + 4, dash + 6);
+            if (year > 0 && isValid(year, month, day)) {
+                return LocalDate.of(year, month, day);
+            }
+        }
+        int slash = label.indexOf('/');
+        if (slash >= 2 && label.length() >= slash + 3) {
+            int month = parseDigits(label, slash - 2, slash);
+            int day = parseDigits(label, slash + 1, slash + 3);
+            if (isValid(reference.getYear(), month, day)) {
+                LocalDate resolved = LocalDate.of(reference.getYear(), month, day);
+                return resolved.isAfter(reference) && isValid(reference.getYear() - 1, month, day)
+                    ? LocalDate.of(reference.getYear() - 1, month, day) : resolved;
+            }
+        }
+        return reference;
+    }
+
+    private static int parseDigits(String s, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isValid(int year, int month, int day) {
+        if (month < 1 || month > 12 || day < 1) {
+            return false;
+        }
+        return day <= YearMonth.of(year, month).lengthOfMonth();
+    }
+}
@@ -0,0 +1,78 @@
+package flcat.gogiyo.support;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 요청 단위 처리 시한 + 취소 신호.
+ * - 컨트롤러가 인바운드 요청(헤더/기본값)으로 생성해 서비스에 전달.
+ * - 서비스는 남은 시간 안에서만 외부 API 호출/재시도. 시한 초과 또는 취소 시 진행 중인 WebClient 교환 중단.
+ * - 취소 신호는 클라이언트 연결 종료/비동기 요청 타임아웃 시 발생 (RequestDeadlineConfig 참고).
+ */
+public final class RequestDeadline {
+
+    private static final long UNBOUNDED = Long.MAX_VALUE;
+    // 시한 없음일 때 remaining() 반환값. 사실상 무한.
+    private static final Duration FOREVER = Duration.ofSeconds(Long.MAX_VALUE, 999_999_999L);
+
+    private final long expiresAtNanos; // UNBOUNDED면 시한 없음
+    private final Sinks.Empty<Void> cancellation = Sinks.empty();
+
+    private RequestDeadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static RequestDeadline after(Duration budget) {
+        return new RequestDeadline(System.nanoTime() + budget.toNanos());
+    }
+
+    // 시한 없음. 컨트롤러 외 내부 호출(기존 시그니처 호환)용. 취소 신호는 동일하게 동작.
+    public static RequestDeadline none() {
+        return new RequestDeadline(UNBOUNDED);
+    }
+
+    public boolean isBounded() {
+        return expiresAtNanos != UNBOUNDED;
+    }
+
+    // 남은 시간. 시한 초과 시 0.
+    public Duration remaining() {
+        if (!isBounded()) {
+            return FOREVER;
+        }
+        return Duration.ofNanos(Math.max(0L, expiresAtNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return isBounded() && expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    // wait 만큼 기다린 뒤에도 시간이 남는지. 재시도 backoff 판단용.
+    public boolean allows(Duration wait) {
+        return !isBounded() || remaining().compareTo(wait) > 0;
+    }
+
+    public void cancel() {
+        cancellation.tryEmitEmpty();
+    }
+
+    public Mono<Void> cancelled() {
+        return cancellation.asMono();
+    }
+
+    /**
+     * Mono에 시한/취소 적용.
+     * - 남은 시간 초과 시 TimeoutException.
+     * - 취소 신호 수신 시 상류 구독 취소 후 값 없이 완료.
+     */
+    public <T> Mono<T> bound(Mono<T> source) {
+        Mono<T> timed = isBounded()
+            ? Mono.defer(() -> isExpired()
+                ? Mono.<T>error(new TimeoutException("요청 시한 초과"))
+                : source.timeout(remaining(), Mono.error(() -> new TimeoutException("요청 시한 초과"))))
+            : source;
+        return timed.takeUntilOther(cancelled());
+    }
+}
@@ -0,0 +1,73 @@
+package flcat.gogiyo.support;
+
+/**
+ * 반복되는 저카디널리티 문자열(품목명, 단위, 등급, 날짜 라벨 등) 정규화용 고정 크기 풀.
+ * - 해시 슬롯 1개당 문자열 1개 (direct-mapped). 충돌 시 덮어써서 크기 증가 없음.
+ * - char 버퍼 구간으로 조회 가능 -> 이미 있는 값이면 String 생성 자체를 생략.
+ * - 잠금 없음. String은 불변이라 슬롯 경쟁 시에도 최악은 중복 생성(정규화 실패)뿐.
+ */
+public final class StringPool {
+
+    private final String[] slots;
+    private final int mask;
+    private final int maxLength;
+
+    /**
+     * @param capacity  슬롯 수. 2의 거듭제곱으로 올림.
+     * @param maxLength 이보다 긴 값은 풀에 넣지 않음 (고카디널리티 값으로 슬롯 오염 방지).
+     */
+    public StringPool(int capacity, int maxLength) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.slots = new String[size];
+        this.mask = size - 1;
+        this.maxLength = maxLength;
+    }
+
+    public String canonicalize(char[] buffer, int offset, int length) {
+        if (length > maxLength) {
+            return new String(buffer, offset, length);
+        }
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        int index = spread(hash) & mask;
+        String cached = slots[index];
+        if (cached != null && cached.length() == length && matches(cached, buffer, offset)) {
+            return cached;
+        }
+        String value = new String(buffer, offset, length);
+        slots[index] = value;
+        return value;
+    }
+
+    public String canonicalize(String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+        int index = spread(value.hashCode()) & mask; // String.hashCode와 위 계산 결과 동일
+        String cached = slots[index];
+        if (value.equals(cached)) {
+            return cached;
+        }
+        slots[index] = value;
+        return value;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    private static boolean matches(String cached, char[] buffer, int offset) {
+        for (int i = 0; i < cached.length(); i++) {
+            if (cached.charAt(i) != buffer[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,63 @@
+package flcat.gogiyo.traffic;
+
+import flcat.gogiyo.traffic.TrafficArchive.Entry;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * 녹화 모드 필터. 실제 외부 API 응답을 그대로 전달하면서 TrafficArchive에 기록.
+ * - 본문은 한 번 메모리로 읽은 뒤 같은 바이트로 응답 재구성 (호출 측 결과 동일).
+ * - 파일 기록은 전달받은 스케줄러에서 (이벤트 루프 블로킹 방지).
+ * - 네트워크 오류 등 응답 자체가 없으면 기록 안 함.
+ */
+@Slf4j
+public class RecordingExchangeFilter implements ExchangeFilterFunction {
+
+    private final TrafficArchive archive;
+    private final Scheduler writeScheduler;
+
+    public RecordingExchangeFilter(TrafficArchive archive, Scheduler writeScheduler) {
+        this.archive = archive;
+        this.writeScheduler = writeScheduler;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String key = TrafficArchive.keyOf(request.method(), request.url());
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return next.exchange(request)
+                .flatMap(response -> response.bodyToMono(byte[].class)
+                    .defaultIfEmpty(new byte[0])
+                    .map(body -> {
+                        long latencyMillis = (System.nanoTime() - startNanos) / 1_000_000;
+                        Entry entry = new Entry(key, response.statusCode().value(),
+                            response.headers().asHttpHeaders().getFirst(HttpHeaders.CONTENT_TYPE),
+                            latencyMillis, body);
+                        writeScheduler.schedule(() -> write(entry));
+                        return response.mutate()
+                            .body(Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body))))
+                            .build();
+                    }));
+        });
+    }
+
+    private void write(Entry entry) {
+        try {
+            archive.append(entry);
+            log.debug("외부 API 응답 녹화. key: {}, status: {}, {}bytes, {}ms",
+                entry.key(), entry.status(), entry.body().length, entry.latencyMillis());
+        } catch (IOException e) {
+            log.error("외부 API 응답 녹화 실패. key: {}, path: {}, 원인: {}", entry.key(), archive.path(), e.getMessage());
+        }
+    }
+}
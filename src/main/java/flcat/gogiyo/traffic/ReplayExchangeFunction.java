@@ -0,0 +1,84 @@
+package flcat.gogiyo.traffic;
+
+import flcat.gogiyo.traffic.TrafficArchive.Entry;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 재생 모드 ExchangeFunction. 네트워크 없이 TrafficArchive의 녹화 응답을 바이트 그대로 반환.
+ * - 녹화에 없는 요청은 WebClientRequestException (연결 실패와 동일 취급).
+ * - 응답 지연: ORIGINAL(녹화 당시 지연 x 배율), FIXED(고정값), NONE(즉시).
+ */
+@Slf4j
+public class ReplayExchangeFunction implements ExchangeFunction {
+
+    public enum Timing {
+        ORIGINAL, FIXED, NONE
+    }
+
+    private final TrafficArchive archive;
+    private final ExchangeStrategies strategies;
+    private final Timing timing;
+    private final Duration fixedDelay;
+    private final double speed;
+
+    /**
+     * @param fixedDelay FIXED 모드 지연
+     * @param speed      ORIGINAL 모드 배속 (2.0 이면 절반 지연). 0 이하 불가.
+     */
+    public ReplayExchangeFunction(TrafficArchive archive, ExchangeStrategies strategies,
+        Timing timing, Duration fixedDelay, double speed) {
+        if (speed <= 0) {
+            throw new IllegalArgumentException("재생 배속은 0보다 커야 함: " + speed);
+        }
+        this.archive = archive;
+        this.strategies = strategies;
+        this.timing = timing;
+        this.fixedDelay = fixedDelay;
+        this.speed = speed;
+    }
+
+    @Override
+    public Mono<ClientResponse> exchange(ClientRequest request) {
+        String key = TrafficArchive.keyOf(request.method(), request.url());
+        return Mono.defer(() -> archive.get(key)
+            .map(entry -> delay(Mono.fromSupplier(() -> toResponse(entry)), entry))
+            .orElseGet(() -> {
+                log.warn("녹화에 없는 요청. key: {}", key);
+                return Mono.error(new WebClientRequestException(
+                    new IllegalStateException("녹화에 없는 요청: " + key),
+                    request.method(), request.url(), request.headers()));
+            }));
+    }
+
+    private ClientResponse toResponse(Entry entry) {
+        ClientResponse.Builder builder = ClientResponse.create(HttpStatusCode.valueOf(entry.status()), strategies);
+        if (entry.contentType() != null) {
+            builder.header(HttpHeaders.CONTENT_TYPE, entry.contentType());
+        }
+        byte[] body = entry.body();
+        return builder
+            .header(HttpHeaders.CONTENT_LENGTH, Integer.toString(body.length))
+            .body(Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body))))
+            .build();
+    }
+
+    private Mono<ClientResponse> delay(Mono<ClientResponse> response, Entry entry) {
+        Duration delay = switch (timing) {
+            case ORIGINAL -> Duration.ofNanos((long) (entry.latencyMillis() * 1_000_000L / speed));
+            case FIXED -> fixedDelay;
+            case NONE -> Duration.ZERO;
+        };
+        return delay.isZero() || delay.isNegative() ? response : response.delaySubscription(delay);
+    }
+}
@@ -0,0 +1,150 @@
+package flcat.gogiyo.traffic;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * 외부 API 응답 녹화 파일 (gzip 압축, append-only).
+ * - 키: 정규화된 요청(메소드 + 경로 + 정렬된 쿼리 파라미터, 인증 파라미터 제외).
+ * - 항목 1건 = gzip 멤버 1개. 기록 중 중단되어도 앞선 항목은 그대로 읽힘.
+ * - 같은 키 재기록 시 마지막 항목 사용.
+ */
+@Slf4j
+public class TrafficArchive {
+
+    private static final int FORMAT_VERSION = 1;
+
+    // 인증키는 파일에 남기지 않고, 키 마다 달라져 재생이 깨지지 않도록 키에서 제외.
+    private static final Set<String> IGNORED_PARAMS = Set.of("p_cert_keystring", "p_cert_id");
+
+    private final Path path;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private TrafficArchive(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * 파일에서 녹화 항목 적재. 파일 없으면 빈 아카이브.
+     * 손상된 꼬리(기록 중 종료 등)는 그 앞까지만 사용.
+     */
+    public static TrafficArchive load(Path path) {
+        TrafficArchive archive = new TrafficArchive(path);
+        if (!Files.isReadable(path)) {
+            log.info("녹화 파일 없음. 빈 아카이브로 시작. path: {}", path);
+            return archive;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+            new GZIPInputStream(Files.newInputStream(path))))) {
+            while (true) {
+                Entry entry = readEntry(in);
+                if (entry == null) {
+                    break;
+                }
+                archive.entries.put(entry.key(), entry);
+            }
+        } catch (IOException e) {
+            log.warn("녹화 파일 일부 읽기 실패. {}건까지 사용. path: {}, 원인: {}",
+                archive.entries.size(), path, e.getMessage());
+        }
+        log.info("녹화 파일 적재 완료. 항목 {}건, path: {}", archive.entries.size(), path);
+        return archive;
+    }
+
+    /**
+     * 요청 정규화 키. 쿼리 파라미터 이름순 정렬, 인증 파라미터 제외.
+     */
+    public static String keyOf(HttpMethod method, URI url) {
+        MultiValueMap<String, String> params = UriComponentsBuilder.fromUri(url).build().getQueryParams();
+        StringBuilder key = new StringBuilder(128)
+            .append(method.name()).append(' ').append(url.getRawPath());
+        char separator = '?';
+        for (Map.Entry<String, List<String>> param : new TreeMap<>(params).entrySet()) {
+            if (IGNORED_PARAMS.contains(param.getKey())) {
+                continue;
+            }
+            for (String value : param.getValue()) {
+                key.append(separator).append(param.getKey()).append('=').append(value == null ? "" : value);
+                separator = '&';
+            }
+        }
+        return key.toString();
+    }
+
+    public Optional<Entry> get(String key) {
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    // 항목 1건 gzip 멤버로 추가 기록. 블로킹 I/O라 이벤트 루프 밖에서 호출할 것.
+    public synchronized void append(Entry entry) throws IOException {
+        entries.put(entry.key(), entry);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (OutputStream file = Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(file)))) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeUTF(entry.key());
+            out.writeShort(entry.status());
+            out.writeUTF(entry.contentType() == null ? "" : entry.contentType());
+            out.writeLong(entry.latencyMillis());
+            out.writeInt(entry.body().length);
+            out.write(entry.body());
+        }
+    }
+
+    private static Entry readEntry(DataInputStream in) throws IOException {
+        int version;
+        try {
+            version = in.readUnsignedByte();
+        } catch (EOFException e) {
+            return null; // 정상 종료
+        }
+        if (version != FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 녹화 형식 버전: " + version);
+        }
+        String key = in.readUTF();
+        int status = in.readUnsignedShort();
+        String contentType = in.readUTF();
+        long latencyMillis = in.readLong();
+        byte[] body = new byte[in.readInt()];
+        in.readFully(body);
+        return new Entry(key, status, contentType.isEmpty() ? null : contentType, latencyMillis, body);
+    }
+
+    /**
+     * 녹화된 응답 1건.
+     * @param latencyMillis 요청 시작 ~ 본문 수신 완료까지 걸린 시간 (재생 시 원래 타이밍 재현용)
+     */
+    public record Entry(String key, int status, String contentType, long latencyMillis, byte[] body) {
+    }
+}
@@ -1,13 +1,28 @@
 package flcat.gogiyo;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
 
-@SpringBootTest
+// 외부 API 주기 호출하는 갱신 스케줄러는 테스트 컨텍스트에서 항상 끔 (컨텍스트가 테스트 JVM 내내 유지됨).
+@SpringBootTest(properties = "refresh.enabled=false")
 class GogiyoApplicationTests {
 
+	@Autowired
+	private ApplicationContext context;
+
 	@Test
 	void contextLoads() {
 	}
 
+	// 호출 조율 기본 꺼짐 -> DataSource(내장 H2, 커넥션 풀) 생성 안 함.
+	@Test
+	void noDataSourceByDefault() {
+		assertThat(context.getBeanNamesForType(DataSource.class)).isEmpty();
+	}
+
 }
@@ -0,0 +1,219 @@
+package flcat.gogiyo.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import flcat.gogiyo.dto.ItemPriceInfo;
+import flcat.gogiyo.dto.PriceWindowStats;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PriceWindowAnalyticsTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    // 테스트용 한우 1등급 항목. day1 라벨 없이 regDay 기준으로 적재되도록 함.
+    private static ItemPriceInfo beef(String price) {
+        ItemPriceInfo item = new ItemPriceInfo();
+        item.setItemCode("4301");
+        item.setItemName("소");
+        item.setKindCode("21");
+        item.setKindName("한우 등심");
+        item.setRank("1등급");
+        item.setUnit("100g");
+        item.setDpr1(price);
+        return item;
+    }
+
+    @Nested
+    @DisplayName("RollingWindow 링 버퍼")
+    class RollingWindowTests {
+
+        @Test
+        @DisplayName("윈도우 크기 초과 시 오래된 값 제외한 평균/표준편차")
+        void slidingMeanAndStddev() {
+            RollingWindow window = new RollingWindow(3, 5);
+            for (int v = 1; v <= 7; v++) {
+                window.add(v, v); // 하루 1건씩 연속
+            }
+
+            // 3일: 5,6,7 / 5일: 3..7
+            assertThat(window.size(0)).isEqualTo(3);
+            assertThat(window.mean(0)).isEqualTo(6.0);
+            assertThat(window.stddev(0)).isCloseTo(1.0, Offset.offset(1e-9));
+            assertThat(window.size(1)).isEqualTo(5);
+            assertThat(window.mean(1)).isEqualTo(5.0);
+            assertThat(window.stddev(1)).isCloseTo(Math.sqrt(2.5), Offset.offset(1e-9));
+        }
+
+        @Test
+        @DisplayName("윈도우는 일수 기준. 수신 공백이 있으면 window일 이전 값은 표본 수와 무관하게 제외")
+        void evictsByDay() {
+            RollingWindow window = new RollingWindow(3, 10);
+            window.add(0, 1);
+            window.add(1, 2);
+            window.add(2, 3);
+            window.add(9, 10); // 3~8일 공백
+
+            // 3일: 7~9일 -> 9일 값만 / 10일: 0~9일 전체
+            assertThat(window.size(0)).isEqualTo(1);
+            assertThat(window.mean(0)).isEqualTo(10.0);
+            assertThat(window.size(1)).isEqualTo(4);
+            assertThat(window.mean(1)).isEqualTo(4.0);
+
+            window.add(12, 13);
+            assertThat(window.size(1)).isEqualTo(2); // 3~12일: 9일, 12일
+            assertThat(window.mean(1)).isEqualTo(11.5);
+        }
+
+        @Test
+        @DisplayName("표본 부족 시 NaN")
+        void notEnoughSamples() {
+            RollingWindow window = new RollingWindow(7);
+            assertThat(window.mean(0)).isNaN();
+            window.add(0, 10);
+            assertThat(window.mean(0)).isEqualTo(10.0);
+            assertThat(window.stddev(0)).isNaN();
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷 수신 시 계열별 이동평균 증분 갱신, 같은 날짜 재수신은 무시")
+    void onSnapshotAccumulatesPerSeries() {
+        PriceWindowAnalytics analytics = new PriceWindowAnalytics("");
+
+        for (int day = 0; day < 10; day++) {
+            analytics.onSnapshot(START.plusDays(day), List.of(beef(String.format("%,d", 10_000 + day * 100))));
+        }
+        // 같은 날짜 중복 수신 (재조회 상황)
+        analytics.onSnapshot(START.plusDays(9), List.of(beef("99,999")));
+
+        List<PriceWindowStats> stats = analytics.getStats("4301", "21", "1등급", null).orElseThrow();
+        assertThat(stats).extracting(PriceWindowStats::getWindow).containsExactly(7, 30, 90);
+
+        PriceWindowStats weekly = stats.get(0);
+        assertThat(weekly.getSampleSize()).isEqualTo(7);
+        assertThat(weekly.getMovingAverage()).isEqualTo(10_600.0); // 10,300 ~ 10,900
+        assertThat(weekly.getLatestPrice()).isEqualTo(10_900.0);
+        assertThat(weekly.getLatestDay()).isEqualTo(START.plusDays(9));
+        assertThat(weekly.getVolatility()).isNotNull();
+
+        assertThat(stats.get(1).getSampleSize()).isEqualTo(10);
+        assertThat(analytics.getStats("4301", "21", "2등급", null)).isEmpty();
+        assertThat(analytics.getStats("4301", "21", "1등급", 14)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수신 공백이 있는 계열: 7일 통계는 최근 7일치만, 공백 사이 변동은 일간 변동률로 보지 않음")
+    void gapInIngestedDays() {
+        PriceWindowAnalytics analytics = new PriceWindowAnalytics("");
+        for (int day = 0; day < 5; day++) {
+            analytics.onSnapshot(START.plusDays(day), List.of(beef("10,000")));
+        }
+        // 15일 공백 후 2일 수신
+        analytics.onSnapshot(START.plusDays(20), List.of(beef("20,000")));
+        analytics.onSnapshot(START.plusDays(21), List.of(beef("20,100")));
+
+        List<PriceWindowStats> stats = analytics.getStats("4301", "21", "1등급", null).orElseThrow();
+        PriceWindowStats weekly = stats.get(0);
+        assertThat(weekly.getSampleSize()).isEqualTo(2);
+        assertThat(weekly.getMovingAverage()).isEqualTo(20_050.0);
+        // 변동률: 1~4일 0%, 21일 +0.5%. 4일 -> 20일(+100%)은 제외.
+        assertThat(stats.get(1).getSampleSize()).isEqualTo(7);
+        assertThat(stats.get(1).getVolatility()).isCloseTo(0.2236, Offset.offset(1e-3));
+        assertThat(weekly.getVolatility()).isNull(); // 7일 안 변동률 1건 -> 표본 부족
+    }
+
+    @Test
+    @DisplayName("직전 조사일 가격(dpr2) 있으면 수신 공백과 무관하게 일간 변동률 계산")
+    void usesPreviousDayPriceForReturns() {
+        PriceWindowAnalytics analytics = new PriceWindowAnalytics("");
+        ItemPriceInfo first = beef("10,000");
+        first.setDpr2("9,900");
+        ItemPriceInfo afterGap = beef("20,000");
+        afterGap.setDpr2("19,800");
+
+        analytics.onSnapshot(START, List.of(first));
+        analytics.onSnapshot(START.plusDays(3), List.of(afterGap));
+
+        PriceWindowStats weekly = analytics.getStats("4301", "21", "1등급", 7).orElseThrow().get(0);
+        assertThat(weekly.getVolatility()).isCloseTo(0.0, Offset.offset(1e-9)); // 두 날 모두 약 +1.0101%
+    }
+
+    @Test
+    @DisplayName("가격 없음('-') 항목은 적재하지 않음")
+    void skipsMissingPrice() {
+        PriceWindowAnalytics analytics = new PriceWindowAnalytics("");
+        analytics.onSnapshot(START, List.of(beef("-")));
+        assertThat(analytics.seriesCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이력 파일로 재기동 시 윈도우 복원")
+    void rebuildFromJournal(@TempDir Path tempDir) throws Exception {
+        Path journal = tempDir.resolve("history.tsv");
+        PriceWindowAnalytics first = new PriceWindowAnalytics(journal.toString());
+        for (int day = 0; day < 5; day++) {
+            first.onSnapshot(START.plusDays(day), List.of(beef(Integer.toString(1_000 + day))));
+        }
+        awaitLines(journal, 5);
+        first.shutdown();
+
+        PriceWindowAnalytics restarted = new PriceWindowAnalytics(journal.toString());
+        restarted.rebuild();
+
+        PriceWindowStats weekly = restarted.getStats("4301", "21", "1등급", 7).orElseThrow().get(0);
+        assertThat(weekly.getSampleSize()).isEqualTo(5);
+        assertThat(weekly.getMovingAverage()).isEqualTo(1_002.0);
+        assertThat(weekly.getKindName()).isEqualTo("한우 등심");
+        restarted.shutdown();
+    }
+
+    @Test
+    @DisplayName("이력 파일은 최근 90일만 보존, 기동 시 정리")
+    void compactsJournalToRetentionHorizon(@TempDir Path tempDir) throws Exception {
+        Path journal = tempDir.resolve("history.tsv");
+        PriceWindowAnalytics first = new PriceWindowAnalytics(journal.toString());
+        for (int day = 0; day < 100; day++) {
+            first.onSnapshot(START.plusDays(day), List.of(beef(Integer.toString(1_000 + day))));
+        }
+        first.shutdown();
+
+        // 일자 넘어갈 때마다 정리 -> 마지막 90일만 남음
+        List<String> lines = Files.readAllLines(journal);
+        assertThat(lines).hasSize(90);
+        assertThat(lines.get(0)).contains(START.plusDays(10).toString());
+
+        // 보존 기간 지난 줄이 섞인 파일도 기동 시 정리
+        Files.write(journal, List.of(new PriceHistoryJournal.PricePoint("4301", "소", "21", "한우 등심", "1등급", "100g",
+            START.minusDays(1), 900.0, Double.NaN).toLine()), StandardOpenOption.APPEND);
+        PriceWindowAnalytics restarted = new PriceWindowAnalytics(journal.toString());
+        restarted.rebuild();
+
+        assertThat(Files.readAllLines(journal)).hasSize(90);
+        PriceWindowStats quarterly = restarted.getStats("4301", "21", "1등급", 90).orElseThrow().get(0);
+        assertThat(quarterly.getSampleSize()).isEqualTo(90);
+        assertThat(quarterly.getMovingAverage()).isEqualTo(1_054.5);
+        restarted.shutdown();
+    }
+
+    // 이력 기록은 비동기 단일 스레드. 기록 완료까지 잠시 대기.
+    private static void awaitLines(Path journal, int expected) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            if (Files.exists(journal) && Files.readAllLines(journal).size() >= expected) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("이력 파일 기록 대기 시간 초과");
+    }
+}
@@ -0,0 +1,41 @@
+package flcat.gogiyo.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class CoordinationDataSourceConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withUserConfiguration(CoordinationDataSourceConfig.class)
+        .withConfiguration(AutoConfigurations.of(JdbcTemplateAutoConfiguration.class));
+
+    @Test
+    @DisplayName("호출 조율 꺼져 있으면 DataSource/JdbcTemplate 생성 안 함")
+    void noDataSourceWhenCoordinationDisabled() {
+        contextRunner
+            .withPropertyValues("coordination.enabled=false")
+            .run(context -> {
+                assertThat(context).doesNotHaveBean(DataSource.class);
+                assertThat(context).doesNotHaveBean(JdbcTemplate.class);
+            });
+    }
+
+    @Test
+    @DisplayName("호출 조율 켜면 spring.datasource 설정으로 DataSource/JdbcTemplate 생성")
+    void createsDataSourceWhenCoordinationEnabled() {
+        contextRunner
+            .withPropertyValues("coordination.enabled=true", "spring.datasource.url=jdbc:h2:mem:coord-config")
+            .run(context -> {
+                assertThat(context).hasSingleBean(DataSource.class);
+                assertThat(context.getBean(JdbcTemplate.class).queryForObject("SELECT 1", Integer.class))
+                    .isEqualTo(1);
+            });
+    }
+}
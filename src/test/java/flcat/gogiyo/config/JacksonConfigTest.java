@@ -0,0 +1,84 @@
+package flcat.gogiyo.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import flcat.gogiyo.dto.ItemPriceInfo;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+class JacksonConfigTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final JacksonConfig jacksonConfig = new JacksonConfig();
+    private List<ItemPriceInfo> items;
+
+    // 스프링 부트처럼 커스터마이저 적용된 새 builder.
+    private Jackson2ObjectMapperBuilder builder() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        jacksonConfig.itemPriceFilterCustomizer().customize(builder);
+        return builder;
+    }
+
+    private static byte[] write(AbstractJackson2HttpMessageConverter converter, Object body, MediaType mediaType)
+        throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(body, mediaType, output);
+        return output.getBodyAsBytes();
+    }
+
+    @BeforeEach
+    void setUp() {
+        ItemPriceInfo item = new ItemPriceInfo();
+        item.setItemName("소");
+        item.setItemCode("4301");
+        item.setKindName("한우 등심");
+        item.setRank("1등급");
+        item.setDpr1("10,500");
+        item.setDay1("당일 (05/13)");
+        items = List.of(item, item);
+    }
+
+    @Test
+    @DisplayName("CBOR/Smile 응답은 JSON보다 작고 같은 ItemPriceInfo 매핑으로 복원")
+    void binaryFormatsRoundTrip() throws Exception {
+        byte[] json = builder().build().writeValueAsBytes(items);
+
+        assertRoundTrip(jacksonConfig.cborHttpMessageConverter(builder()), MediaType.APPLICATION_CBOR, json.length);
+        assertRoundTrip(jacksonConfig.smileHttpMessageConverter(builder()), SMILE, json.length);
+    }
+
+    private void assertRoundTrip(AbstractJackson2HttpMessageConverter converter, MediaType mediaType, int jsonLength)
+        throws Exception {
+        byte[] body = write(converter, items, mediaType);
+
+        assertThat(body.length).isLessThan(jsonLength);
+        assertThat(converter.getObjectMapper().readValue(body, ItemPriceInfo[].class))
+            .containsExactlyElementsOf(items);
+    }
+
+    @Test
+    @DisplayName("바이너리 포맷에도 필드 선택 필터 적용")
+    void projectionAppliesToBinaryFormats() throws Exception {
+        AbstractJackson2HttpMessageConverter cbor = jacksonConfig.cborHttpMessageConverter(builder());
+        MappingJacksonValue projected = new MappingJacksonValue(items);
+        projected.setFilters(new SimpleFilterProvider().addFilter(JacksonConfig.ITEM_PRICE_FILTER,
+            SimpleBeanPropertyFilter.filterOutAllExcept("item_name", "dpr1")));
+
+        byte[] body = write(cbor, projected, MediaType.APPLICATION_CBOR);
+
+        assertThat(cbor.getObjectMapper().readTree(body).get(0).properties())
+            .extracting(Map.Entry::getKey)
+            .containsExactlyInAnyOrder("item_name", "dpr1");
+    }
+}
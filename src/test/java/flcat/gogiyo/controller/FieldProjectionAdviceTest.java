@@ -0,0 +1,66 @@
+package flcat.gogiyo.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import flcat.gogiyo.config.JacksonConfig;
+import flcat.gogiyo.dto.ItemPriceInfo;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.server.ResponseStatusException;
+
+class FieldProjectionAdviceTest {
+
+    private ObjectMapper objectMapper;
+    private List<ItemPriceInfo> items;
+
+    @BeforeEach
+    void setUp() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        new JacksonConfig().itemPriceFilterCustomizer().customize(builder);
+        objectMapper = builder.build();
+
+        ItemPriceInfo item = new ItemPriceInfo();
+        item.setItemName("소");
+        item.setItemCode("4301");
+        item.setKindName("한우 등심");
+        item.setDpr1("10,500");
+        item.setDay1("당일 (05/13)");
+        items = List.of(item);
+    }
+
+    private String write(String fields) throws Exception {
+        return objectMapper.writer(new SimpleFilterProvider().addFilter(JacksonConfig.ITEM_PRICE_FILTER,
+                SimpleBeanPropertyFilter.filterOutAllExcept(FieldProjectionAdvice.resolve(fields))))
+            .writeValueAsString(items);
+    }
+
+    @Test
+    @DisplayName("요청 필드만 직렬화 (속성명/JSON 이름 혼용)")
+    void serializesRequestedFieldsOnly() throws Exception {
+        assertThat(objectMapper.readTree(write("itemName, kind_name,dpr1")))
+            .isEqualTo(objectMapper.readTree("[{\"item_name\":\"소\",\"kind_name\":\"한우 등심\",\"dpr1\":\"10,500\"}]"));
+    }
+
+    @Test
+    @DisplayName("필터 미지정 시 전체 필드 직렬화")
+    void serializesAllFieldsByDefault() throws Exception {
+        String json = objectMapper.writeValueAsString(items);
+
+        assertThat(json).contains("\"itemcode\":\"4301\"", "\"day1\":\"당일 (05/13)\"", "\"dpr7\":null");
+    }
+
+    @Test
+    @DisplayName("없는 필드명은 400")
+    void rejectsUnknownField() {
+        assertThatThrownBy(() -> FieldProjectionAdvice.resolve("itemName,color"))
+            .isInstanceOf(ResponseStatusException.class)
+            .hasMessageContaining("color");
+    }
+}
@@ -0,0 +1,112 @@
+package flcat.gogiyo.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import flcat.gogiyo.config.JacksonConfig;
+import flcat.gogiyo.dto.ItemPriceInfo;
+import flcat.gogiyo.service.LivestockProductPriceService;
+import flcat.gogiyo.service.PriceQueryResult;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import reactor.core.publisher.Mono;
+
+@WebMvcTest(LivestockPriceController.class)
+@Import(JacksonConfig.class)
+class LivestockPriceControllerTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private LivestockProductPriceService livestockPriceService;
+
+    private List<ItemPriceInfo> items;
+
+    @BeforeEach
+    void setUp() {
+        ItemPriceInfo item = new ItemPriceInfo();
+        item.setItemName("소");
+        item.setItemCode("4301");
+        item.setKindName("한우 등심");
+        item.setDpr1("10,500");
+        items = List.of(item);
+    }
+
+    // Mono 반환 컨트롤러 -> 비동기 처리 후 결과 디스패치.
+    private ResultActions performAsync(MockHttpServletRequestBuilder requestBuilder) throws Exception {
+        MvcResult started = mockMvc.perform(requestBuilder)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+
+    @Test
+    @DisplayName("Accept 헤더로 CBOR/Smile 바이너리 응답 선택")
+    void negotiatesBinaryFormats() throws Exception {
+        when(livestockPriceService.queryPriceInfo(any(), any(), any(), any(), any(), any()))
+            .thenReturn(Mono.just(PriceQueryResult.fresh(items)));
+
+        performAsync(get("/api/v1/livestock-prices/query").accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+        performAsync(get("/api/v1/livestock-prices/query").accept(SMILE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(SMILE));
+    }
+
+    @Test
+    @DisplayName("Accept 미지정 또는 */* 요청은 JSON 유지")
+    void defaultsToJson() throws Exception {
+        when(livestockPriceService.queryPriceInfo(any(), any(), any(), any(), any(), any()))
+            .thenReturn(Mono.just(PriceQueryResult.fresh(items)));
+
+        performAsync(get("/api/v1/livestock-prices/query"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$[0].item_name").value("소"));
+        performAsync(get("/api/v1/livestock-prices/query").accept(MediaType.ALL))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("fields 지정 시 요청 필드만 응답")
+    void trimsResponseToRequestedFields() throws Exception {
+        when(livestockPriceService.getNationalWholesaleBeefPrice(any(), any()))
+            .thenReturn(Mono.just(PriceQueryResult.fresh(items)));
+
+        performAsync(get("/api/v1/livestock-prices/beef").param("fields", "itemName,dpr1"))
+            .andExpect(status().isOk())
+            .andExpect(content().json("[{\"item_name\":\"소\",\"dpr1\":\"10,500\"}]", true));
+    }
+
+    @Test
+    @DisplayName("없는 필드명은 외부 조회 전에 400")
+    void rejectsUnknownFieldBeforeUpstreamCall() throws Exception {
+        mockMvc.perform(get("/api/v1/livestock-prices/beef").param("fields", "itemName,unknown"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(livestockPriceService);
+    }
+}
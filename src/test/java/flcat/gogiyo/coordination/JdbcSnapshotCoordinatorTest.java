@@ -0,0 +1,145 @@
+package flcat.gogiyo.coordination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flcat.gogiyo.dto.ItemPriceInfo;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class JdbcSnapshotCoordinatorTest {
+
+    private static final String KEY = "02|500||2025-05-13|N";
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcSnapshotCoordinator first;
+    private JdbcSnapshotCoordinator second;
+    private List<ItemPriceInfo> items;
+
+    // 같은 저장소를 공유하는 두 인스턴스.
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:coord-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1"));
+        first = coordinator(jdbcTemplate, "instance-a");
+        second = coordinator(jdbcTemplate, "instance-b");
+        first.initialize();
+        second.initialize();
+
+        ItemPriceInfo item = new ItemPriceInfo();
+        item.setItemName("소");
+        item.setKindName("한우 등심");
+        item.setDpr1("10,500");
+        items = List.of(item);
+    }
+
+    private static JdbcSnapshotCoordinator coordinator(JdbcTemplate jdbcTemplate, String instanceId) {
+        return new JdbcSnapshotCoordinator(jdbcTemplate, new ObjectMapper(), instanceId, Duration.ofMinutes(5),
+            Duration.ofSeconds(5), Duration.ofMillis(20), true, Clock.systemUTC());
+    }
+
+    private Mono<List<ItemPriceInfo>> counting(AtomicInteger calls, Mono<List<ItemPriceInfo>> result) {
+        return Mono.defer(() -> {
+            calls.incrementAndGet();
+            return result;
+        });
+    }
+
+    @Test
+    @DisplayName("담당 인스턴스가 조회 후 게시, 다른 인스턴스는 외부 호출 없이 게시 결과 사용")
+    void followerReadsPublishedSnapshot() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.create(first.fetch(KEY, counting(calls, Mono.just(items))))
+            .expectNext(items)
+            .verifyComplete();
+        StepVerifier.create(second.fetch(KEY, counting(calls, Mono.just(items))))
+            .expectNext(items)
+            .verifyComplete();
+
+        assertThat(calls).hasValue(1);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT fetched_by FROM price_snapshot WHERE query_key = ?", String.class, KEY)).isEqualTo("instance-a");
+        awaitLeaseReleased();
+    }
+
+    // 임대 반환은 결과 전달 후 비동기. 반환될 때까지 잠시 대기.
+    private void awaitLeaseReleased() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM price_fetch_lease", Integer.class) > 0) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("임대 반환 대기 시간 초과");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("임대 보유 중이면 대기 후 담당 인스턴스 게시 결과 사용")
+    void followerWaitsForLeader() {
+        AtomicInteger calls = new AtomicInteger();
+        assertThat(first.tryAcquire(KEY)).isTrue();
+
+        Mono<List<ItemPriceInfo>> waiting = second.fetch(KEY, counting(calls, Mono.just(items)));
+        Mono.delay(Duration.ofMillis(100)).subscribe(tick -> {
+            first.publish(KEY, items);
+            first.release(KEY);
+        });
+
+        StepVerifier.create(waiting)
+            .expectNext(items)
+            .verifyComplete();
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("담당 인스턴스 조회 실패 시 임대 반환 -> 다음 요청이 이어받아 조회")
+    void leaseReleasedOnUpstreamError() {
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.create(first.fetch(KEY, counting(calls, Mono.error(new IllegalStateException("boom")))))
+            .verifyError(IllegalStateException.class);
+        StepVerifier.create(second.fetch(KEY, counting(calls, Mono.just(items))))
+            .expectNext(items)
+            .verifyComplete();
+
+        assertThat(calls).hasValue(2);
+        assertThat(first.readPublished(KEY)).isEqualTo(items);
+    }
+
+    @Test
+    @DisplayName("만료된 임대는 다른 인스턴스가 획득")
+    void expiredLeaseCanBeTakenOver() {
+        assertThat(first.tryAcquire(KEY)).isTrue();
+        assertThat(second.tryAcquire(KEY)).isFalse();
+
+        jdbcTemplate.update("UPDATE price_fetch_lease SET expires_at = 0 WHERE query_key = ?", KEY);
+
+        assertThat(second.tryAcquire(KEY)).isTrue();
+    }
+
+    @Test
+    @DisplayName("저장소 접근 실패 시 조율 없이 직접 호출")
+    void fallsBackToUpstreamWhenStoreUnavailable() {
+        JdbcSnapshotCoordinator noSchema = new JdbcSnapshotCoordinator(
+            new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:coord-" + UUID.randomUUID())),
+            new ObjectMapper(), "instance-c", Duration.ofMinutes(5), Duration.ofSeconds(5), Duration.ofMillis(20),
+            false, Clock.systemUTC());
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.create(noSchema.fetch(KEY, counting(calls, Mono.just(items))))
+            .expectNext(items)
+            .verifyComplete();
+        assertThat(calls).hasValue(1);
+    }
+}
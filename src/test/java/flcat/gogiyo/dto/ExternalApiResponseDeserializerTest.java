@@ -0,0 +1,96 @@
+package flcat.gogiyo.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import flcat.gogiyo.support.StringPool;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExternalApiResponseDeserializerTest {
+
+    private static final String ITEMS_BODY = """
+        {"condition":[{"p_product_cls_code":"02","p_regday":"2025-05-13"}],
+         "data":{"error_code":"000","item":[
+           {"item_name":"소","itemcode":"4301","kind_name":"한우 등심","kindcode":"21","rank":"1등급",
+            "unit":"100g","day1":"당일 (05/13)","dpr1":"10,500","day2":"1일전 (05/12)","dpr2":"10,400",
+            "day7":"평년","dpr7":[],"product_cls_code":"02"},
+           {"item_name":"소","itemcode":"4301","kind_name":"한우 갈비","kindcode":"22","rank":"1등급",
+            "unit":"100g","day1":"당일 (05/13)","dpr1":"8,900","day2":"1일전 (05/12)","dpr2":"-"}]}}
+        """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("항목 필드 매핑 및 반복 라벨 문자열 인스턴스 공유")
+    void parsesItemsAndSharesRepeatedLabels() throws Exception {
+        ExternalApiResponse response = objectMapper.readValue(ITEMS_BODY, ExternalApiResponse.class);
+
+        List<ItemPriceInfo> items = response.getData().getItems();
+        assertThat(response.getData().getErrorCode()).isEqualTo("000");
+        assertThat(items).hasSize(2);
+        ItemPriceInfo first = items.get(0);
+        ItemPriceInfo second = items.get(1);
+        assertThat(first.getKindName()).isEqualTo("한우 등심");
+        assertThat(first.getDpr1()).isEqualTo("10,500");
+        assertThat(first.getDpr7()).isNull(); // 빈 값 [] -> null
+        assertThat(second.getDpr2()).isEqualTo("-");
+
+        assertThat(second.getItemName()).isSameAs(first.getItemName());
+        assertThat(second.getRank()).isSameAs(first.getRank());
+        assertThat(second.getUnit()).isSameAs(first.getUnit());
+        assertThat(second.getDay1()).isSameAs(first.getDay1());
+        assertThat(second.getDay2()).isSameAs(first.getDay2());
+    }
+
+    @Test
+    @DisplayName("요청이 달라도 같은 라벨은 같은 인스턴스")
+    void sharesLabelsAcrossResponses() throws Exception {
+        ExternalApiResponse first = objectMapper.readValue(ITEMS_BODY, ExternalApiResponse.class);
+        ExternalApiResponse second = objectMapper.readValue(ITEMS_BODY, ExternalApiResponse.class);
+
+        assertThat(second.getData().getItems().get(0).getKindName())
+            .isSameAs(first.getData().getItems().get(0).getKindName());
+    }
+
+    @Test
+    @DisplayName("데이터 없음 응답(data 배열)은 빈 항목 + 에러 코드")
+    void parsesNoDataArray() throws Exception {
+        ExternalApiResponse response = objectMapper.readValue(
+            "{\"condition\":\"001\",\"data\":[\"001\"]}", ExternalApiResponse.class);
+
+        assertThat(response.getCondition()).isEqualTo("001");
+        assertThat(response.getData().getItems()).isEmpty();
+        assertThat(response.getData().getErrorCode()).isEqualTo("001");
+    }
+
+    @Test
+    @DisplayName("항목 1건이 객체로 오는 경우, data null 허용")
+    void parsesSingleItemObjectAndNullData() throws Exception {
+        ExternalApiResponse single = objectMapper.readValue(
+            "{\"data\":{\"item\":{\"item_name\":\"닭\",\"itemcode\":\"9901\"}}}", ExternalApiResponse.class);
+        ExternalApiResponse empty = objectMapper.readValue("{\"data\":null}", ExternalApiResponse.class);
+
+        assertThat(single.getData().getItems()).singleElement()
+            .extracting(ItemPriceInfo::getItemCode).isEqualTo("9901");
+        assertThat(empty.getData()).isNull();
+    }
+
+    @Test
+    @DisplayName("문자열 풀은 크기 고정, 긴 값은 풀에 넣지 않음")
+    void stringPoolIsBounded() {
+        StringPool pool = new StringPool(4, 8);
+        char[] buffer = "xx100gxx".toCharArray();
+
+        String first = pool.canonicalize(buffer, 2, 4);
+        assertThat(pool.canonicalize(new String("100g"))).isSameAs(first);
+        for (int i = 0; i < 100; i++) {
+            pool.canonicalize("v" + i);
+        }
+        assertThat(pool.capacity()).isEqualTo(4);
+
+        String longValue = "123456789";
+        assertThat(pool.canonicalize(new String(longValue))).isNotSameAs(pool.canonicalize(new String(longValue)));
+    }
+}
@@ -0,0 +1,172 @@
+package flcat.gogiyo.refresh;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import flcat.gogiyo.dto.ItemPriceInfo;
+import flcat.gogiyo.service.LivestockProductPriceService;
+import flcat.gogiyo.service.PriceQueryResult;
+import flcat.gogiyo.support.PriceValues;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+class AdaptiveRefreshSchedulerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 5, 13);
+
+    private final LivestockProductPriceService service = mock(LivestockProductPriceService.class);
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private AdaptiveRefreshScheduler scheduler;
+
+    // 테스트용 시계. KST 기준 시각으로 설정.
+    private static final class MutableClock extends Clock {
+
+        private Instant instant = Instant.EPOCH;
+
+        void set(LocalDate day, String time) {
+            instant = day.atTime(LocalTime.parse(time)).atZone(PriceValues.KST).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return PriceValues.KST;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock();
+        // 기본 게시 창 13:00~17:00, 창 안 2분, 창 밖 5분~2시간, 학습 창 여유 30분, 표본 3개부터 학습.
+        scheduler = new AdaptiveRefreshScheduler(service, meterRegistry, Duration.ofSeconds(10), Duration.ofMinutes(2),
+            Duration.ofMinutes(5), Duration.ofHours(2), Duration.ofMinutes(30), Duration.ofSeconds(30), 3, 14,
+            LocalTime.of(13, 0), LocalTime.of(17, 0), clock, Schedulers.immediate());
+    }
+
+    private static PriceQueryResult snapshot(String day1) {
+        ItemPriceInfo item = new ItemPriceInfo();
+        item.setItemCode("4301");
+        item.setDay1(day1);
+        item.setDpr1("10,500");
+        return PriceQueryResult.fresh(List.of(item));
+    }
+
+    private Duration recordAt(LocalDate day, String time, PriceQueryResult result) {
+        clock.set(day, time);
+        return scheduler.record(result);
+    }
+
+    private double polls(String outcome) {
+        return meterRegistry.get("gogiyo.refresh.polls").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    @DisplayName("게시 창 밖은 두 배씩 backoff, 최대 간격과 다음 창 시작을 넘지 않음")
+    void backsOffExponentiallyOutsideWindow() {
+        List<Duration> delays = List.of(
+            recordAt(DAY, "06:00", snapshot("당일 (05/12)")),
+            recordAt(DAY, "06:05", snapshot("당일 (05/12)")),
+            recordAt(DAY, "06:15", snapshot("당일 (05/12)")),
+            recordAt(DAY, "06:35", snapshot("당일 (05/12)")),
+            recordAt(DAY, "07:15", snapshot("당일 (05/12)")),
+            recordAt(DAY, "08:35", snapshot("당일 (05/12)")),
+            recordAt(DAY, "10:35", snapshot("당일 (05/12)")));
+
+        assertThat(delays).containsExactly(Duration.ofMinutes(5), Duration.ofMinutes(10), Duration.ofMinutes(20),
+            Duration.ofMinutes(40), Duration.ofMinutes(80), Duration.ofHours(2), Duration.ofHours(2));
+        // 12:35 -> 2시간 backoff 대신 창 시작(13:00)까지 25분
+        assertThat(recordAt(DAY, "12:35", snapshot("당일 (05/12)"))).isEqualTo(Duration.ofMinutes(25));
+        assertThat(polls("miss")).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("게시 창 안에서는 짧은 간격, 새 day1 관측 후에는 다시 backoff")
+    void pollsAggressivelyInsideWindowUntilHit() {
+        assertThat(recordAt(DAY, "13:30", snapshot("당일 (05/12)"))).isEqualTo(Duration.ofMinutes(2));
+        assertThat(recordAt(DAY, "13:32", snapshot("당일 (05/12)"))).isEqualTo(Duration.ofMinutes(2));
+
+        assertThat(recordAt(DAY, "13:34", snapshot("당일 (05/13)"))).isEqualTo(Duration.ofMinutes(5));
+        assertThat(recordAt(DAY, "13:39", snapshot("당일 (05/13)"))).isEqualTo(Duration.ofMinutes(10));
+
+        assertThat(polls("hit")).isEqualTo(1);
+        assertThat(scheduler.hitSamples()).containsExactly(LocalTime.of(13, 34));
+        assertThat(meterRegistry.get("gogiyo.refresh.hit.minute-of-day").summary().mean()).isEqualTo(13 * 60 + 34);
+    }
+
+    @Test
+    @DisplayName("첫 조회에서 이미 오늘 day1이면 hit로 집계, 창 학습 표본에는 제외")
+    void countsAlreadyPublishedDayAsHit() {
+        // 재시작 직후(또는 창보다 이른 게시) 첫 조회에 오늘 값 -> hit, 이후 창 안에서도 짧은 간격 대신 backoff
+        assertThat(recordAt(DAY, "10:00", snapshot("당일 (05/13)"))).isEqualTo(Duration.ofMinutes(5));
+        assertThat(recordAt(DAY, "13:30", snapshot("당일 (05/13)"))).isEqualTo(Duration.ofMinutes(10));
+
+        assertThat(polls("hit")).isEqualTo(1);
+        assertThat(polls("miss")).isEqualTo(1);
+        assertThat(scheduler.hitSamples()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("hit 시각 표본으로 게시 창 학습, 지표로 노출")
+    void learnsPublishWindowFromHits() {
+        recordAt(DAY, "14:00", snapshot("d0"));
+        recordAt(DAY.plusDays(1), "14:10", snapshot("d1"));
+        recordAt(DAY.plusDays(2), "14:20", snapshot("d2"));
+        assertThat(scheduler.currentWindow().start()).isEqualTo(LocalTime.of(13, 0)); // 표본 부족 -> 기본 창
+        recordAt(DAY.plusDays(3), "14:05", snapshot("d3"));
+
+        assertThat(scheduler.currentWindow())
+            .isEqualTo(new AdaptiveRefreshScheduler.PublishWindow(LocalTime.of(13, 35), LocalTime.of(14, 50)));
+        assertThat(meterRegistry.get("gogiyo.refresh.window.start").gauge().value()).isEqualTo(13 * 60 + 35);
+        assertThat(meterRegistry.get("gogiyo.refresh.window.end").gauge().value()).isEqualTo(14 * 60 + 50);
+        assertThat(meterRegistry.get("gogiyo.refresh.window.samples").gauge().value()).isEqualTo(3);
+
+        // 학습된 창 안은 짧은 간격, 창 끝난 뒤에는 다음 날 창 시작 전까지 backoff
+        LocalDate nextDay = DAY.plusDays(4);
+        assertThat(recordAt(nextDay, "13:40", snapshot("d3"))).isEqualTo(Duration.ofMinutes(2));
+        assertThat(recordAt(nextDay, "15:00", snapshot("d3"))).isEqualTo(Duration.ofMinutes(5));
+        assertThat(meterRegistry.get("gogiyo.refresh.next-delay").gauge().value()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("조회 실패/대체 응답은 error로 집계, 학습 상태 유지")
+    void countsFailuresWithoutLosingState() {
+        recordAt(DAY, "13:30", snapshot("당일 (05/12)"));
+        clock.set(DAY, "13:32");
+        when(service.refreshLatestNationalWholesaleLivestockSnapshot(any()))
+            .thenReturn(Mono.error(new IllegalStateException("boom")))
+            .thenReturn(Mono.just(new PriceQueryResult(snapshot("당일 (05/13)").items(), true, Instant.EPOCH)))
+            .thenReturn(Mono.just(snapshot("당일 (05/13)")));
+
+        StepVerifier.create(scheduler.pollOnce()).expectNext(Duration.ofMinutes(2)).verifyComplete();
+        StepVerifier.create(scheduler.pollOnce()).expectNext(Duration.ofMinutes(2)).verifyComplete();
+        StepVerifier.create(scheduler.pollOnce()).expectNext(Duration.ofMinutes(5)).verifyComplete();
+
+        assertThat(polls("error")).isEqualTo(2);
+        assertThat(polls("hit")).isEqualTo(1); // stale 응답의 day1은 무시 -> 정상 응답에서 hit
+    }
+}
@@ -0,0 +1,118 @@
+package flcat.gogiyo.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import flcat.gogiyo.dto.ItemPriceInfo;
+import flcat.gogiyo.dto.PriceSearchResult;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PriceSearchIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 5, 20);
+
+    private PriceSearchIndex index;
+
+    private static ItemPriceInfo item(String itemCode, String itemName, String kindCode, String kindName,
+        String rank, String price) {
+        ItemPriceInfo item = new ItemPriceInfo();
+        item.setItemCode(itemCode);
+        item.setItemName(itemName);
+        item.setKindCode(kindCode);
+        item.setKindName(kindName);
+        item.setRank(rank);
+        item.setUnit("100g");
+        item.setDpr1(price);
+        return item;
+    }
+
+    private static PriceSearchQuery query(String itemName, String kindName, String rank, String sort,
+        int size, String cursor) {
+        return new PriceSearchQuery(itemName, kindName, rank, null, sort, size, cursor);
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new PriceSearchIndex();
+        index.onSnapshot(DAY, List.of(
+            item("4301", "소", "21", "한우 등심", "1등급", "10,500"),
+            item("4301", "소", "22", "한우 갈비", "1등급", "8,900"),
+            item("4301", "소", "21", "한우 등심", "2등급", "9,100"),
+            item("4401", "수입 소", "31", "미국산 갈비", "냉동", "4,200"),
+            item("4304", "돼지", "27", "삼겹살", "중품", "2,600")));
+    }
+
+    @Test
+    @DisplayName("품종명 접두어 + 등급 조건 AND 검색")
+    void prefixAndCombinedFilters() {
+        PriceSearchResult result = index.search(query(null, "한우", "1등", null, 20, null));
+
+        assertThat(result.getTotalMatches()).isEqualTo(2);
+        assertThat(result.getItems()).extracting(ItemPriceInfo::getKindName)
+            .containsExactlyInAnyOrder("한우 등심", "한우 갈비");
+        assertThat(result.getSnapshotDay()).isEqualTo(DAY);
+    }
+
+    @Test
+    @DisplayName("값 중간 단어도 토큰 접두어로 검색")
+    void matchesInnerToken() {
+        PriceSearchResult result = index.search(query(null, "갈비", null, null, 20, null));
+
+        assertThat(result.getItems()).extracting(ItemPriceInfo::getKindName)
+            .containsExactlyInAnyOrder("한우 갈비", "미국산 갈비");
+    }
+
+    @Test
+    @DisplayName("가격 내림차순 정렬 + 커서 페이지네이션으로 전체 순회")
+    void sortAndCursorPagination() {
+        List<String> prices = new ArrayList<>();
+        String cursor = null;
+        do {
+            PriceSearchResult page = index.search(query(null, null, null, "price,desc", 2, cursor));
+            page.getItems().forEach(item -> prices.add(item.getDpr1()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(prices).containsExactly("10,500", "9,100", "8,900", "4,200", "2,600");
+    }
+
+    @Test
+    @DisplayName("새 스냅샷 수신 시 바뀐 항목만 반영, 빠진 항목은 제거")
+    void incrementalUpdate() {
+        index.onSnapshot(DAY.plusDays(1), List.of(
+            item("4301", "소", "21", "한우 등심", "1등급", "10,700"),
+            item("4304", "돼지", "27", "삼겹살", "중품", "2,650")));
+
+        assertThat(index.search(query("소", null, null, null, 20, null)).getItems())
+            .singleElement()
+            .extracting(ItemPriceInfo::getDpr1).isEqualTo("10,700");
+        assertThat(index.search(query(null, "갈비", null, null, 20, null)).getTotalMatches()).isZero();
+    }
+
+    @Test
+    @DisplayName("과거 날짜 스냅샷은 색인에 반영 안 함")
+    void ignoresOlderSnapshot() {
+        index.onSnapshot(DAY.minusDays(30), List.of(item("9901", "닭", "99", "육계", "중품", "5,000")));
+
+        assertThat(index.search(query("닭", null, null, null, 20, null)).getTotalMatches()).isZero();
+        assertThat(index.search(query(null, null, null, null, 20, null)).getTotalMatches()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("잘못된 정렬 필드/커서는 IllegalArgumentException")
+    void invalidSortOrCursor() {
+        assertThatThrownBy(() -> index.search(query(null, null, null, "color", 20, null)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.search(query(null, null, null, null, 20, "not-a-cursor")))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        String priceCursor = index.search(query(null, null, null, "price", 1, null)).getNextCursor();
+        assertThatThrownBy(() -> index.search(query(null, null, null, "rank", 1, priceCursor)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
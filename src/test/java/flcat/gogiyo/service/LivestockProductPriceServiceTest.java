@@ -4,13 +4,24 @@ package flcat.gogiyo.service;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import flcat.gogiyo.coordination.LocalSnapshotCoordinator;
+import flcat.gogiyo.coordination.SnapshotCoordinator;
 import flcat.gogiyo.dto.ExternalApiResponse;
 import flcat.gogiyo.dto.ExternalApiResponse.DataContent;
 import flcat.gogiyo.dto.ItemPriceInfo;
+import flcat.gogiyo.support.PriceValues;
+import flcat.gogiyo.support.RequestDeadline;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -30,6 +42,7 @@ import org.springframework.web.reactive.function.client.WebClient.ResponseSpec;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import reactor.test.publisher.PublisherProbe;
 
 
 @Slf4j
@@ -58,6 +71,26 @@ class LivestockProductPriceServiceTest {
     @Mock
     private WebClient.ResponseSpec responseSpec;
 
+    // 스냅샷 리스너 목록. 생성자 주입 대상이라 실제 리스트를 Spy로 제공.
+    @Spy
+    private List<PriceSnapshotListener> snapshotListeners = new ArrayList<>();
+
+    // 마지막 정상 응답 저장소. 백그라운드 갱신 간격 0 -> 장애 표시 직후 갱신 허용.
+    @Spy
+    private LastKnownGoodStore lastKnownGoodStore = new LastKnownGoodStore(16, Duration.ZERO);
+
+    // 데이터 없음 응답 단기 캐시.
+    @Spy
+    private NoDataCache noDataCache = new NoDataCache(Duration.ofMinutes(1), 16);
+
+    // 호출 조율. 단일 인스턴스 기본 구현 (바로 호출).
+    @Spy
+    private SnapshotCoordinator snapshotCoordinator = new LocalSnapshotCoordinator();
+
+    // 최신일 스냅샷 캐시. 갱신 스케줄러 없으면 비어 있음.
+    @Spy
+    private LatestSnapshotCache latestSnapshotCache = new LatestSnapshotCache(Duration.ofHours(3));
+
     // @Value 로 주입되는 필드들은 Mock 객체 주입 방식으로는 테스트하기 어렵다 Why?
     // ReflectionTestUtils 를 사용하거나, 테스트용 생성자를 만들어 값을 직접 주입하는 방법이 있음
     private String apiKey = "test-api-key";
@@ -79,14 +112,18 @@ class LivestockProductPriceServiceTest {
         ReflectionTestUtils.setField(livestockProductPriceService, "apiKey", apiKey);
         ReflectionTestUtils.setField(livestockProductPriceService, "apiId", apiId);
         ReflectionTestUtils.setField(livestockProductPriceService, "baseUrl", baseUrl);
+        ReflectionTestUtils.setField(livestockProductPriceService, "slowCallThreshold", Duration.ofSeconds(5));
 
         // WebClient 의 fluent Api 모킹 설정
+        // 파라미터 검증/캐시로 외부 호출 없이 끝나는 테스트도 있어 lenient 설정 (미사용 stub 허용)
         // webClient.get() 호출 시 > requestHeadersUriSpec 반환하도록 설정
-        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        lenient().when(webClient.get()).thenReturn(requestHeadersUriSpec);
         // requestHeadersUriSpec.uri(anyString()) 호출 시 > requestHeadersSpec 반환하도록 설정
-        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
+        lenient().when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
         // requestHeadersSpec.retrieve() 호출 시 > responseSpec 반환하도록 설정
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        lenient().when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        // responseSpec.onStatus(...) 호출 시 > 자기 자신 반환하도록 설정 (fluent 체인 유지)
+        lenient().when(responseSpec.onStatus(any(), any())).thenReturn(responseSpec);
     }
 
     @Nested
@@ -164,7 +201,7 @@ class LivestockProductPriceServiceTest {
 
             // when
             Mono<List<ItemPriceInfo>> resultMono = livestockProductPriceService.getPriceInfo("02",
-                "500", "잘못된지역코드", null, "N");
+                "500", "9999", null, "N"); // 형식은 맞지만 존재하지 않는 지역코드
 
             // then
             StepVerifier.create(resultMono)
@@ -218,8 +255,8 @@ class LivestockProductPriceServiceTest {
                 null, null, null);
 
             // retrieve() 가 호출될 때마다 항상 서버 에러 Mono 반환
-            when(responseSpec.bodyToMono(ExternalApiResponse.class)
-                .thenReturn(Mono.error(serverException)));
+            when(responseSpec.bodyToMono(ExternalApiResponse.class))
+                .thenReturn(Mono.error(serverException));
 
             // when
             Mono<List<ItemPriceInfo>> resultMono = livestockProductPriceService.getPriceInfo("02",
@@ -255,25 +292,292 @@ class LivestockProductPriceServiceTest {
         }
 
         @Test
-        @DisplayName("regDay 파라미터가 잘못된 형식일 경우 Api 호출 시 regDay 파라미터 제외")
-        void getPRiceInfoWithInvalidRegDayExcludesParam() {
+        @DisplayName("regDay 파라미터가 잘못된 형식일 경우 Api 호출 없이 IllegalArgumentException")
+        void getPRiceInfoWithInvalidRegDayRejectedBeforeCall() {
             // given
+            String invalidRegDay = "20250520"; //(잘못된 형식일 경우)
+
+            // when
+            Mono<List<ItemPriceInfo>> resultMono = livestockProductPriceService.getPriceInfo("02", "500", null,
+                invalidRegDay, "N");
+
+            // then : 검증 단계에서 거절, WebClient 호출 없음
+            StepVerifier.create(resultMono)
+                .expectError(IllegalArgumentException.class)
+                .verify();
+            verify(webClient, never()).get();
+        }
+    }
+
+    @Nested
+    @DisplayName("파라미터 검증 및 데이터 없음 캐시 테스트")
+    class ValidationAndNoDataCacheTests {
+
+        @Test
+        @DisplayName("미래 날짜, 존재하지 않는 날짜, 잘못된 코드값은 Api 호출 없이 거절")
+        void rejectsInvalidParamsBeforeCall() {
+            String tomorrow = LocalDate.now(PriceValues.KST).plusDays(1).toString();
+
+            StepVerifier.create(livestockProductPriceService.getPriceInfo("02", "500", null, tomorrow, "N"))
+                .expectError(IllegalArgumentException.class).verify();
+            StepVerifier.create(livestockProductPriceService.getPriceInfo("02", "500", null, "2025-02-29", "N"))
+                .expectError(IllegalArgumentException.class).verify();
+            StepVerifier.create(livestockProductPriceService.getPriceInfo("03", "500", null, null, "N"))
+                .expectError(IllegalArgumentException.class).verify();
+            StepVerifier.create(livestockProductPriceService.getPriceInfo("02", "500", "11O1", null, "N"))
+                .expectError(IllegalArgumentException.class).verify();
+            StepVerifier.create(livestockProductPriceService.getPriceInfo("02", "500", null, null, "y"))
+                .expectError(IllegalArgumentException.class).verify();
+
+            verify(webClient, never()).get();
+        }
+
+        @Test
+        @DisplayName("윤년 2월 29일 등 유효한 날짜는 통과")
+        void acceptsLeapDay() {
             ExternalApiResponse mockApiResponse = new ExternalApiResponse();
             mockApiResponse.setCondition("000");
             mockApiResponse.setData(new ExternalApiResponse.DataContent());
+            when(responseSpec.bodyToMono(ExternalApiResponse.class)).thenReturn(Mono.just(mockApiResponse));
 
-            when(responseSpec.bodyToMono(ExternalApiResponse.class)).thenReturn(
-                Mono.just(mockApiResponse));
+            StepVerifier.create(livestockProductPriceService.getPriceInfo("02", "500", "1101", "2024-02-29", "N"))
+                .expectNextMatches(List::isEmpty)
+                .verifyComplete();
+            verify(requestHeadersUriSpec).uri(argThat((String uriString) -> uriString.contains("p_regday=2024-02-29")));
+        }
 
-            String invalidRegDay = "20250520"; //(잘못된 형식일 경우)
+        @Test
+        @DisplayName("데이터 없음(001) 응답은 같은 조건 재요청 시 Api 재호출 없이 빈 리스트")
+        void cachesNoDataAnswer() {
+            DataContent dataContent = new DataContent();
+            dataContent.setMessage("No data");
+            ExternalApiResponse noDataResponse = new ExternalApiResponse();
+            noDataResponse.setCondition("001");
+            noDataResponse.setData(dataContent);
+            when(responseSpec.bodyToMono(ExternalApiResponse.class)).thenReturn(Mono.just(noDataResponse));
+
+            // when : 기본값 명시/생략 요청은 같은 조건
+            livestockProductPriceService.getPriceInfo("02", "500", null, "2025-05-18", "N").block();
+            StepVerifier.create(livestockProductPriceService.getPriceInfo(null, null, null, "2025-05-18", null))
+                .expectNextMatches(List::isEmpty)
+                .verifyComplete();
+
+            // then : 다른 날짜는 별도 조건
+            livestockProductPriceService.getPriceInfo("02", "500", null, "2025-05-17", "N").block();
+            verify(webClient, times(2)).get();
+        }
+    }
+
+    @Nested
+    @DisplayName("요청 처리 시한(RequestDeadline) 테스트")
+    class RequestDeadlineTests {
+
+        @Test
+        @DisplayName("남은 시한이 backoff 보다 짧으면 5xx 에러에도 재시도하지 않음")
+        void skipRetryWhenBudgetTooShort() {
+            // given : 항상 500 에러, 시한은 재시도 대기(1초)보다 짧음
+            WebClientResponseException serverException = new WebClientResponseException(
+                "Mock 500 Error", HttpStatus.INTERNAL_SERVER_ERROR.value(), "Internal Server Error",
+                null, null, null);
+            when(responseSpec.bodyToMono(ExternalApiResponse.class)).thenReturn(Mono.error(serverException));
 
             // when
-            livestockProductPriceService.getPriceInfo("02", "500", null, invalidRegDay, "N")
-                .subscribe();
+            Mono<List<ItemPriceInfo>> resultMono = livestockProductPriceService.getPriceInfo("02",
+                "500", null, null, "N", RequestDeadline.after(Duration.ofMillis(500)));
 
-            // then : p_regday 파라미터가 uri 에서 제외되었는지 검증
-            // argThat 으로 p_regday= 부재 확인
-            verify(requestHeadersUriSpec).uri(argThat((String uriString) -> !uriString.contains("p_regday=")));
+            // then : 재시도 없이 빈 리스트
+            StepVerifier.create(resultMono)
+                .expectNextMatches(List::isEmpty)
+                .verifyComplete();
+            verify(webClient, times(1)).get();
+        }
+
+        @Test
+        @DisplayName("재시도마다 늘어나는 backoff(지터 포함) 기준으로 남은 시한 판단")
+        void retryBudgetFollowsExponentialBackoff() {
+            // given : 항상 500 에러, 시한 2.5초 -> 첫 재시도(최대 1.5초)는 가능, 두번째(최대 3초)는 불가
+            WebClientResponseException serverException = new WebClientResponseException(
+                "Mock 500 Error", HttpStatus.INTERNAL_SERVER_ERROR.value(), "Internal Server Error",
+                null, null, null);
+            when(responseSpec.bodyToMono(ExternalApiResponse.class)).thenReturn(Mono.error(serverException));
+
+            // when
+            Mono<List<ItemPriceInfo>> resultMono = livestockProductPriceService.getPriceInfo("02",
+                "500", null, null, "N", RequestDeadline.after(Duration.ofMillis(2500)));
+
+            // then : 재시도 1회 후 시한 내 빈 리스트
+            StepVerifier.create(resultMono)
+                .expectNextMatches(List::isEmpty)
+                .expectComplete()
+                .verify(Duration.ofSeconds(2));
+            verify(webClient, times(2)).get();
+        }
+
+        @Test
+        @DisplayName("응답 지연 시 시한 초과로 진행 중인 호출 취소 후 빈 리스트 반환")
+        void timeoutCancelsInFlightCall() {
+            // given : 응답이 오지 않는 외부 API
+            PublisherProbe<ExternalApiResponse> probe = PublisherProbe.of(Mono.never());
+            when(responseSpec.bodyToMono(ExternalApiResponse.class)).thenReturn(probe.mono());
+
+            // when
+            Mono<List<ItemPriceInfo>> resultMono = livestockProductPriceService.getPriceInfo("02",
+                "500", null, null, "N", RequestDeadline.after(Duration.ofMillis(200)));
+
+            // then
+            StepVerifier.create(resultMono)
+                .expectNextMatches(List::isEmpty)
+                .verifyComplete();
+            probe.assertWasCancelled();
+        }
+
+        @Test
+        @DisplayName("취소 신호 수신 시 진행 중인 호출 취소 후 값 없이 완료")
+        void cancelSignalAbortsInFlightCall() {
+            // given
+            PublisherProbe<ExternalApiResponse> probe = PublisherProbe.of(Mono.never());
+            when(responseSpec.bodyToMono(ExternalApiResponse.class)).thenReturn(probe.mono());
+            RequestDeadline deadline = RequestDeadline.after(Duration.ofSeconds(30));
+
+            // when
+            Mono<List<ItemPriceInfo>> resultMono = livestockProductPriceService.getPriceInfo("02",
+                "500", null, null, "N", deadline);
+
+            // then : 구독 후 클라이언트 이탈(취소 신호) 상황
+            StepVerifier.create(resultMono)
+                .then(deadline::cancel)
+                .verifyComplete();
+            probe.assertWasCancelled();
+        }
+    }
+
+    @Nested
+    @DisplayName("마지막 정상 응답(last-known-good) 대체 테스트")
+    class LastKnownGoodTests {
+
+        private ExternalApiResponse responseOf(String itemName) {
+            ItemPriceInfo item = new ItemPriceInfo();
+            item.setItemName(itemName);
+            ExternalApiResponse.DataContent dataContent = new ExternalApiResponse.DataContent();
+            dataContent.setItems(List.of(item));
+            ExternalApiResponse response = new ExternalApiResponse();
+            response.setCondition("000");
+            response.setData(dataContent);
+            return response;
+        }
+
+        @Test
+        @DisplayName("외부 API 실패 시 같은 조건의 마지막 정상 응답을 stale 표시해 반환")
+        void servesLastKnownGoodOnFailure() {
+            // given : 첫 호출 성공, 두번째 호출 4xx 에러 (재시도 없음)
+            WebClientResponseException clientException = new WebClientResponseException(
+                "Mock 400 Error", HttpStatus.BAD_REQUEST.value(), "Bad Request", null, null, null);
+            when(responseSpec.bodyToMono(ExternalApiResponse.class))
+                .thenReturn(Mono.just(responseOf("정상 소고기")))
+                .thenReturn(Mono.error(clientException));
+
+            // when
+            StepVerifier.create(livestockProductPriceService.queryPriceInfo(
+                    "02", "500", null, null, "N", RequestDeadline.none()))
+                .expectNextMatches(result -> !result.stale() && result.items().size() == 1)
+                .verifyComplete();
+
+            // then : 기본값 생략 요청도 같은 조건으로 보고 저장값 반환
+            StepVerifier.create(livestockProductPriceService.queryPriceInfo(
+                    null, null, null, null, null, RequestDeadline.none()))
+                .expectNextMatches(result -> result.stale()
+                    && result.fetchedAt() != null
+                    && "정상 소고기".equals(result.items().get(0).getItemName()))
+                .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("장애 상태 조건은 외부 호출 없이 저장값 응답, 백그라운드 갱신 성공 후 정상 응답")
+        void degradedQueryRefreshesInBackground() {
+            // given : 성공 -> 실패 -> (백그라운드) 성공
+            WebClientResponseException clientException = new WebClientResponseException(
+                "Mock 400 Error", HttpStatus.BAD_REQUEST.value(), "Bad Request", null, null, null);
+            when(responseSpec.bodyToMono(ExternalApiResponse.class))
+                .thenReturn(Mono.just(responseOf("첫 응답")))
+                .thenReturn(Mono.error(clientException))
+                .thenReturn(Mono.just(responseOf("갱신 응답")));
+
+            livestockProductPriceService.getPriceInfo("02", "500", null, null, "N").block();
+            livestockProductPriceService.getPriceInfo("02", "500", null, null, "N").block();
+
+            // when : 장애 상태에서 요청 -> 저장값 즉시 응답 + 백그라운드 갱신 1회
+            StepVerifier.create(livestockProductPriceService.queryPriceInfo(
+                    "02", "500", null, null, "N", RequestDeadline.none()))
+                .expectNextMatches(result -> result.stale() && "첫 응답".equals(result.items().get(0).getItemName()))
+                .verifyComplete();
+
+            // then : 갱신된 저장값으로 장애 상태 해제 -> 다음 요청은 정상 호출
+            StepVerifier.create(livestockProductPriceService.queryPriceInfo(
+                    "02", "500", null, null, "N", RequestDeadline.none()))
+                .expectNextMatches(result -> !result.stale() && "갱신 응답".equals(result.items().get(0).getItemName()))
+                .verifyComplete();
+            verify(webClient, times(4)).get();
+        }
+
+        @Test
+        @DisplayName("호출자 요청 시한 초과는 저장값으로 대체하되 장애 상태로 만들지 않음")
+        void callerTimeoutDoesNotDegradeQuery() {
+            // given : 첫 호출 성공, 이후 호출도 성공 (짧은 시한 요청은 호출 시작 전 시한 초과)
+            when(responseSpec.bodyToMono(ExternalApiResponse.class))
+                .thenReturn(Mono.just(responseOf("첫 응답")))
+                .thenReturn(Mono.just(responseOf("새 응답")));
+            livestockProductPriceService.getPriceInfo("02", "500", null, null, "N").block();
+
+            // when : X-Request-Timeout: 1 같은 짧은 시한 요청
+            StepVerifier.create(livestockProductPriceService.queryPriceInfo(
+                    "02", "500", null, null, "N", RequestDeadline.after(Duration.ofMillis(1))))
+                .expectNextMatches(result -> result.stale() && "첫 응답".equals(result.items().get(0).getItemName()))
+                .verifyComplete();
+
+            // then : 일반 시한 요청은 저장값이 아닌 외부 호출 결과
+            verify(lastKnownGoodStore, never()).markFailed(anyString());
+            StepVerifier.create(livestockProductPriceService.queryPriceInfo(
+                    "02", "500", null, null, "N", RequestDeadline.after(Duration.ofSeconds(30))))
+                .expectNextMatches(result -> !result.stale() && "새 응답".equals(result.items().get(0).getItemName()))
+                .verifyComplete();
+            verify(webClient, times(2)).get();
+        }
+
+        @Test
+        @DisplayName("외부 API 응답 지연으로 시한 초과 시 장애 상태로 기록 -> 다음 요청은 외부 호출 없이 저장값")
+        void hangingUpstreamDegradesQuery() {
+            // given : 첫 호출 성공, 두번째 호출은 응답 없음 (KAMIS 무응답)
+            ReflectionTestUtils.setField(livestockProductPriceService, "slowCallThreshold", Duration.ofMillis(100));
+            when(responseSpec.bodyToMono(ExternalApiResponse.class))
+                .thenReturn(Mono.just(responseOf("첫 응답")))
+                .thenReturn(Mono.never());
+            livestockProductPriceService.getPriceInfo("02", "500", null, null, "N").block();
+
+            // when : 외부 호출이 임계값(100ms)보다 오래 응답 없는 채로 시한(300ms) 초과
+            StepVerifier.create(livestockProductPriceService.queryPriceInfo(
+                    "02", "500", null, null, "N", RequestDeadline.after(Duration.ofMillis(300))))
+                .expectNextMatches(result -> result.stale() && "첫 응답".equals(result.items().get(0).getItemName()))
+                .verifyComplete();
+
+            // then : 장애 상태 -> 다음 요청은 시한 대기 없이 저장값 즉시 응답 (백그라운드 갱신 간격 전)
+            verify(lastKnownGoodStore).markFailed("02|500|||N");
+            StepVerifier.create(livestockProductPriceService.queryPriceInfo(
+                    "02", "500", null, null, "N", RequestDeadline.after(Duration.ofSeconds(8))))
+                .expectNextMatches(PriceQueryResult::stale)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+        }
+
+        @Test
+        @DisplayName("저장값 없는 조건은 실패 시 기존처럼 빈 리스트, 조회 실패(failed) 표시")
+        void emptyWithoutLastKnownGood() {
+            when(responseSpec.bodyToMono(ExternalApiResponse.class))
+                .thenReturn(Mono.error(new IllegalStateException("파싱 오류")));
+
+            StepVerifier.create(livestockProductPriceService.queryPriceInfo(
+                    "02", "500", "1101", null, "N", RequestDeadline.none()))
+                .expectNextMatches(result -> !result.stale() && result.failed() && result.items().isEmpty())
+                .verifyComplete();
         }
     }
 
@@ -401,5 +705,47 @@ class LivestockProductPriceServiceTest {
                 .expectNextMatches(List::isEmpty)
                 .verifyComplete();
         }
+
+        @Test
+        @DisplayName("전국 도매 조회 시 필터링 전 전체 스냅샷을 리스너에 전달")
+        void publishesSnapshotToListeners() {
+            // given
+            PriceSnapshotListener listener = mock(PriceSnapshotListener.class);
+            snapshotListeners.add(listener);
+
+            // when
+            StepVerifier.create(livestockProductPriceService.getNationalWholesaleLivestockPrice(
+                    "beef", "2025-05-20"))
+                .expectNextMatches(list -> list.size() == 2)
+                .verifyComplete();
+
+            // then : 필터링된 2건이 아닌 전체 6건이 regDay 기준일과 함께 전달되었는지 확인
+            verify(listener).onSnapshot(eq(LocalDate.of(2025, 5, 20)),
+                argThat((List<ItemPriceInfo> items) -> items.size() == 6));
+        }
+
+        @Test
+        @DisplayName("갱신 스케줄러가 채운 최신 스냅샷은 최신일 조회에만 Api 호출 없이 사용")
+        void servesLatestSnapshotFromRefreshCache() {
+            // given : 스케줄러 강제 조회로 캐시 채움
+            StepVerifier.create(livestockProductPriceService.refreshLatestNationalWholesaleLivestockSnapshot(
+                    RequestDeadline.none()))
+                .expectNextMatches(result -> result.items().size() == 6)
+                .verifyComplete();
+
+            // when & then : 최신일 조회는 캐시, 날짜 지정 조회는 기존대로 Api 호출
+            StepVerifier.create(livestockProductPriceService.queryNationalWholesaleLivestockPrice(
+                    "pork", null, RequestDeadline.none()))
+                .expectNextMatches(result -> result.items().size() == 2 && !result.stale()
+                    && result.fetchedAt() != null)
+                .verifyComplete();
+            verify(webClient, times(1)).get();
+
+            StepVerifier.create(livestockProductPriceService.getNationalWholesaleLivestockPrice(
+                    "pork", "2025-05-20"))
+                .expectNextMatches(list -> list.size() == 2)
+                .verifyComplete();
+            verify(webClient, times(2)).get();
+        }
     }
 }
@@ -0,0 +1,212 @@
+package flcat.gogiyo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import flcat.gogiyo.dto.ItemPriceInfo;
+import flcat.gogiyo.dto.PriceMover;
+import flcat.gogiyo.service.PriceMoversService.Horizon;
+import flcat.gogiyo.support.RequestDeadline;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class PriceMoversServiceTest {
+
+    private static final String REG_DAY = "2025-05-13";
+
+    @Mock
+    private LivestockProductPriceService livestockPriceService;
+
+    private PriceMoversService moversService;
+
+    private static ItemPriceInfo item(String kindName, String current, String dayAgo, String weekAgo) {
+        ItemPriceInfo item = new ItemPriceInfo();
+        item.setItemCode("4301");
+        item.setItemName("소");
+        item.setKindName(kindName);
+        item.setRank("1등급");
+        item.setDay1("당일 (05/13)");
+        item.setDpr1(current);
+        item.setDay2("1일전 (05/12)");
+        item.setDpr2(dayAgo);
+        item.setDay3("1주일전 (05/06)");
+        item.setDpr3(weekAgo);
+        return item;
+    }
+
+    @BeforeEach
+    void setUp() {
+        moversService = new PriceMoversService(livestockPriceService, "1101", Duration.ofMinutes(10),
+            Duration.ZERO, Clock.fixed(Instant.parse("2025-05-13T01:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("지역 합산 후 상승/하락률 상위를 limit만큼 정렬해 반환, 가격 없는 항목(-) 제외")
+    void selectsTopMoversAcrossRegions() {
+        when(livestockPriceService.queryPriceInfo(isNull(), isNull(), isNull(), eq(REG_DAY), isNull(), any()))
+            .thenReturn(Mono.just(PriceQueryResult.fresh(List.of(
+                item("등심", "11,000", "10,000", "10,000"),   // +10%
+                item("갈비", "9,000", "10,000", "10,000"),    // -10%
+                item("안심", "-", "10,000", "10,000")))));
+        when(livestockPriceService.queryPriceInfo(isNull(), isNull(), eq("1101"), eq(REG_DAY), isNull(), any()))
+            .thenReturn(Mono.just(PriceQueryResult.fresh(List.of(
+                item("등심", "10,500", "10,000", "10,000"),   // +5%
+                item("갈비", "8,000", "10,000", "10,000"),    // -20%
+                item("양지", "12,000", "10,000", "10,000"))))); // +20%
+
+        StepVerifier.create(moversService.getTopMovers(REG_DAY, Horizon.DAILY, 2, RequestDeadline.none()))
+            .assertNext(result -> {
+                assertThat(result.getRegionCount()).isEqualTo(2);
+                assertThat(result.getGainers()).extracting(PriceMover::getKindName, PriceMover::getCountryName)
+                    .containsExactly(
+                        tuple("양지", "서울"),
+                        tuple("등심", "전국"));
+                assertThat(result.getGainers().get(0).getChangeRate()).isEqualTo(20.0);
+                assertThat(result.getLosers()).extracting(PriceMover::getChangeRate)
+                    .containsExactly(-20.0, -10.0);
+                assertThat(result.getLosers().get(0).getBaseDay()).isEqualTo("1일전 (05/12)");
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("기간(horizon)에 따라 비교 컬럼 변경 (주간: dpr3)")
+    void usesHorizonColumn() {
+        when(livestockPriceService.queryPriceInfo(isNull(), isNull(), any(), eq(REG_DAY), isNull(), any()))
+            .thenReturn(Mono.just(PriceQueryResult.fresh(List.of(item("등심", "11,000", "11,000", "8,800")))));
+
+        StepVerifier.create(moversService.getTopMovers(REG_DAY, Horizon.WEEKLY, 10, RequestDeadline.none()))
+            .assertNext(result -> {
+                assertThat(result.getGainers()).extracting(PriceMover::getChangeRate).containsOnly(25.0);
+                assertThat(result.getLosers()).isEmpty();
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("같은 regDay 재요청은 기간(horizon)이 달라도 캐시 응답, 지역별 외부 API 조회 1회")
+    void cachesPerRegDayAndHorizon() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        when(livestockPriceService.queryPriceInfo(isNull(), isNull(), any(), eq(REG_DAY), isNull(), any()))
+            .thenReturn(Mono.defer(() -> {
+                subscriptions.incrementAndGet();
+                return Mono.just(PriceQueryResult.fresh(List.of(item("등심", "11,000", "10,000", "10,000"))));
+            }));
+
+        moversService.getTopMovers(REG_DAY, Horizon.DAILY, 5, RequestDeadline.none()).block();
+        moversService.getTopMovers(REG_DAY, Horizon.DAILY, 1, RequestDeadline.none()).block();
+        assertThat(subscriptions).hasValue(2); // 전국 + 서울 1회씩
+
+        moversService.getTopMovers(REG_DAY, Horizon.WEEKLY, 5, RequestDeadline.none()).block();
+        moversService.getTopMovers(REG_DAY, Horizon.MONTHLY, 5, RequestDeadline.none()).block();
+        assertThat(subscriptions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("일부 지역이 대체(stale) 응답이거나 조회 실패면 partial 표시, partialTtl 지나면 다시 계산")
+    void doesNotKeepPartialResult() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        when(livestockPriceService.queryPriceInfo(isNull(), isNull(), isNull(), eq(REG_DAY), isNull(), any()))
+            .thenReturn(Mono.defer(() -> {
+                subscriptions.incrementAndGet();
+                return Mono.just(PriceQueryResult.fresh(List.of(item("등심", "11,000", "10,000", "10,000"))));
+            }));
+        when(livestockPriceService.queryPriceInfo(isNull(), isNull(), eq("1101"), eq(REG_DAY), isNull(), any()))
+            .thenReturn(Mono.just(new PriceQueryResult(List.of(item("갈비", "9,000", "10,000", "10,000")), true,
+                Instant.parse("2025-05-12T01:00:00Z"))))
+            .thenReturn(Mono.just(PriceQueryResult.unavailable()));
+
+        // partialTtl 0 -> 불완전 결과는 바로 만료
+        StepVerifier.create(moversService.getTopMovers(REG_DAY, Horizon.DAILY, 5, RequestDeadline.none()))
+            .assertNext(result -> {
+                assertThat(result.isPartial()).isTrue();
+                assertThat(result.getRegionCount()).isEqualTo(2);
+            })
+            .verifyComplete();
+        StepVerifier.create(moversService.getTopMovers(REG_DAY, Horizon.DAILY, 5, RequestDeadline.none()))
+            .assertNext(result -> {
+                assertThat(result.isPartial()).isTrue();
+                assertThat(result.getRegionCount()).isEqualTo(1);
+            })
+            .verifyComplete();
+
+        assertThat(subscriptions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("데이터 없음(001) 지역은 partial 아님, 정상 결과로 캐시")
+    void emptyRegionIsNotPartial() {
+        when(livestockPriceService.queryPriceInfo(isNull(), isNull(), isNull(), eq(REG_DAY), isNull(), any()))
+            .thenReturn(Mono.just(PriceQueryResult.fresh(List.of(item("등심", "11,000", "10,000", "10,000")))));
+        when(livestockPriceService.queryPriceInfo(isNull(), isNull(), eq("1101"), eq(REG_DAY), isNull(), any()))
+            .thenReturn(Mono.just(PriceQueryResult.fresh(List.of())));
+
+        StepVerifier.create(moversService.getTopMovers(REG_DAY, Horizon.DAILY, 5, RequestDeadline.none()))
+            .assertNext(result -> {
+                assertThat(result.isPartial()).isFalse();
+                assertThat(result.getRegionCount()).isEqualTo(1);
+            })
+            .verifyComplete();
+        moversService.getTopMovers(REG_DAY, Horizon.DAILY, 5, RequestDeadline.none()).block();
+
+        verify(livestockPriceService, times(1))
+            .queryPriceInfo(isNull(), isNull(), eq("1101"), eq(REG_DAY), isNull(), any());
+    }
+
+    @Test
+    @DisplayName("데이터 없는 결과는 캐시하지 않음")
+    void doesNotCacheEmptyResult() {
+        when(livestockPriceService.queryPriceInfo(isNull(), isNull(), any(), eq(REG_DAY), isNull(), any()))
+            .thenReturn(Mono.just(PriceQueryResult.fresh(List.of())));
+
+        StepVerifier.create(moversService.getTopMovers(REG_DAY, Horizon.DAILY, 5, RequestDeadline.none()))
+            .assertNext(result -> assertThat(result.getRegionCount()).isZero())
+            .verifyComplete();
+        moversService.getTopMovers(REG_DAY, Horizon.DAILY, 5, RequestDeadline.none()).block();
+
+        verify(livestockPriceService, times(2))
+            .queryPriceInfo(isNull(), isNull(), isNull(), eq(REG_DAY), isNull(), any());
+    }
+
+    @Test
+    @DisplayName("힙 크기 초과 후보는 상위만 유지")
+    void boundedHeapKeepsTopScores() {
+        PriceMoversService.BoundedHeap heap = new PriceMoversService.BoundedHeap(3, PriceMover::getChangeRate);
+        List<Double> rates = List.of(4.0, 9.0, 1.0, 7.0, 3.0, 8.0);
+        for (double rate : rates) {
+            if (heap.accepts(rate)) {
+                heap.offer(PriceMover.builder().changeRate(rate).build());
+            }
+        }
+
+        assertThat(heap.sortedDescending()).extracting(PriceMover::getChangeRate).containsExactly(9.0, 8.0, 7.0);
+        assertThat(heap.accepts(6.0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("limit 범위 밖이면 IllegalArgumentException")
+    void rejectsInvalidLimit() {
+        StepVerifier.create(moversService.getTopMovers(REG_DAY, Horizon.DAILY, 0, RequestDeadline.none()))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+    }
+}
@@ -0,0 +1,154 @@
+package flcat.gogiyo.traffic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import flcat.gogiyo.coordination.LocalSnapshotCoordinator;
+import flcat.gogiyo.dto.ItemPriceInfo;
+import flcat.gogiyo.service.LastKnownGoodStore;
+import flcat.gogiyo.service.LatestSnapshotCache;
+import flcat.gogiyo.service.LivestockProductPriceService;
+import flcat.gogiyo.service.NoDataCache;
+import flcat.gogiyo.traffic.ReplayExchangeFunction.Timing;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+class TrafficRecordReplayTest {
+
+    private static final String BASE_URL = "http://kamis.test/service/price/xml.do?action=dailyPriceByCategoryList";
+
+    // 외부 API 응답 형태 샘플 (필드 일부만)
+    private static final String SAMPLE_BODY = """
+        {"condition":"000","data":{"item":[
+          {"item_name":"소","itemcode":"4301","kind_name":"한우 등심","kindcode":"21","rank":"1등급",
+           "unit":"100g","day1":"당일 (05/20)","dpr1":"10,500","day2":"1일전 (05/19)","dpr2":"10,400"}
+        ]}}""";
+
+    private final ExchangeStrategies strategies = ExchangeStrategies.withDefaults();
+
+    // 녹화 대상 가짜 외부 API. 호출 횟수 기록.
+    private ExchangeFunction fakeUpstream(AtomicInteger calls) {
+        return request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.OK, strategies)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(
+                    SAMPLE_BODY.getBytes(StandardCharsets.UTF_8))))
+                .build());
+        };
+    }
+
+    @Test
+    @DisplayName("요청 키는 파라미터 순서/인증 파라미터와 무관")
+    void keyIgnoresParamOrderAndCredentials() {
+        String a = TrafficArchive.keyOf(HttpMethod.GET,
+            URI.create("http://h/p?p_regday=2025-05-20&p_cert_keystring=k1&p_cert_id=1&action=x"));
+        String b = TrafficArchive.keyOf(HttpMethod.GET,
+            URI.create("http://h/p?action=x&p_cert_id=2&p_regday=2025-05-20&p_cert_keystring=k2"));
+
+        assertThat(a).isEqualTo(b).isEqualTo("GET /p?action=x&p_regday=2025-05-20");
+    }
+
+    @Test
+    @DisplayName("녹화 후 재생 시 네트워크 없이 동일한 바이트 응답")
+    void recordThenReplayByteIdentical(@TempDir Path tempDir) {
+        Path archivePath = tempDir.resolve("kamis.bin");
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        // 녹화: 기록은 테스트 스레드에서 바로 (immediate)
+        WebClient recording = WebClient.builder()
+            .exchangeFunction(fakeUpstream(upstreamCalls))
+            .filter(new RecordingExchangeFilter(TrafficArchive.load(archivePath), Schedulers.immediate()))
+            .build();
+        String recorded = recording.get()
+            .uri(BASE_URL + "&p_cert_keystring=secret&p_cert_id=1&p_regday=2025-05-20")
+            .retrieve().bodyToMono(String.class).block();
+        assertThat(recorded).isEqualTo(SAMPLE_BODY);
+
+        // 재생: 파일에서 다시 적재, 다른 인증키/파라미터 순서로 요청
+        TrafficArchive reloaded = TrafficArchive.load(archivePath);
+        assertThat(reloaded.size()).isEqualTo(1);
+        WebClient replaying = WebClient.builder()
+            .exchangeFunction(new ReplayExchangeFunction(reloaded, strategies, Timing.NONE, Duration.ZERO, 1.0))
+            .build();
+        String replayed = replaying.get()
+            .uri(BASE_URL + "&p_regday=2025-05-20&p_cert_id=2&p_cert_keystring=other")
+            .retrieve().bodyToMono(String.class).block();
+
+        assertThat(replayed).isEqualTo(recorded);
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("녹화에 없는 요청은 연결 오류로 처리")
+    void replayMissingKeyFails(@TempDir Path tempDir) {
+        WebClient replaying = WebClient.builder()
+            .exchangeFunction(new ReplayExchangeFunction(TrafficArchive.load(tempDir.resolve("none.bin")),
+                strategies, Timing.NONE, Duration.ZERO, 1.0))
+            .build();
+
+        StepVerifier.create(replaying.get().uri(BASE_URL).retrieve().bodyToMono(String.class))
+            .expectError(WebClientRequestException.class)
+            .verify();
+    }
+
+    @Test
+    @DisplayName("FIXED 타이밍은 설정한 지연 후 응답")
+    void replayFixedTiming(@TempDir Path tempDir) throws Exception {
+        TrafficArchive archive = TrafficArchive.load(tempDir.resolve("kamis.bin"));
+        archive.append(new TrafficArchive.Entry(
+            TrafficArchive.keyOf(HttpMethod.GET, URI.create(BASE_URL)), 200,
+            MediaType.APPLICATION_JSON_VALUE, 5_000, SAMPLE_BODY.getBytes(StandardCharsets.UTF_8)));
+        WebClient replaying = WebClient.builder()
+            .exchangeFunction(new ReplayExchangeFunction(archive, strategies, Timing.FIXED,
+                Duration.ofMillis(150), 1.0))
+            .build();
+
+        long start = System.nanoTime();
+        replaying.get().uri(BASE_URL).retrieve().bodyToMono(String.class).block();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+    }
+
+    @Test
+    @DisplayName("재생 트래픽으로 서비스 응답 파싱 (회귀 테스트용 고정 입력)")
+    void serviceOverReplayedTraffic(@TempDir Path tempDir) throws Exception {
+        TrafficArchive archive = TrafficArchive.load(tempDir.resolve("kamis.bin"));
+        URI requestUri = URI.create(BASE_URL
+            + "&p_returntype=json&p_product_cls_code=02&p_item_category_code=500&p_convert_kg_yn=N");
+        archive.append(new TrafficArchive.Entry(TrafficArchive.keyOf(HttpMethod.GET, requestUri), 200,
+            MediaType.APPLICATION_JSON_VALUE, 0, SAMPLE_BODY.getBytes(StandardCharsets.UTF_8)));
+        WebClient replaying = WebClient.builder()
+            .exchangeFunction(new ReplayExchangeFunction(archive, strategies, Timing.NONE, Duration.ZERO, 1.0))
+            .build();
+        LivestockProductPriceService service = new LivestockProductPriceService(
+            replaying, "key", "id", BASE_URL, List.of(), new LastKnownGoodStore(16, Duration.ofSeconds(30)),
+            new NoDataCache(Duration.ofSeconds(60), 16), new LocalSnapshotCoordinator(),
+            new LatestSnapshotCache(Duration.ofHours(3)), Duration.ofSeconds(5));
+
+        StepVerifier.create(service.getPriceInfo(null, null, null, null, null))
+            .expectNextMatches((List<ItemPriceInfo> items) -> items.size() == 1
+                && "한우 등심".equals(items.get(0).getKindName())
+                && "10,500".equals(items.get(0).getDpr1()))
+            .verifyComplete();
+    }
+}